@@ -0,0 +1,50 @@
+package com.example.user.benchmark;
+
+import com.example.user.dto.NicknameGenerateResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Python 닉네임 서비스 응답 JSON 역직렬화 비용
+ * WebClient 디코더와 같이 바이트 배열에서 바로 NicknameGenerateResponse로 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NicknameResponseDecodingBenchmark {
+    
+    private static final byte[] RESPONSE = "{\"nickname\":\"반짝이는펭귄\",\"is_available\":true}"
+            .getBytes(StandardCharsets.UTF_8);
+    
+    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        reader = objectMapper.readerFor(NicknameGenerateResponse.class);
+    }
+    
+    @Benchmark
+    public NicknameGenerateResponse readValue() throws IOException {
+        return objectMapper.readValue(RESPONSE, NicknameGenerateResponse.class);
+    }
+    
+    @Benchmark
+    public NicknameGenerateResponse cachedReader() throws IOException {
+        return reader.readValue(RESPONSE);
+    }
+}
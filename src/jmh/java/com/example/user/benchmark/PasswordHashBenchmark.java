@@ -0,0 +1,59 @@
+package com.example.user.benchmark;
+
+import com.example.user.util.PasswordUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordUtil 해시/검증 비용 (비용 인자별)
+ * 실제 요청 경로와 같이 해시 전용 풀을 거쳐 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHashBenchmark {
+    
+    private static final String RAW_PASSWORD = "password1234!";
+    
+    @Param({"4", "10", "12"})
+    private int strength;
+    
+    private ThreadPoolExecutor executor;
+    private PasswordUtil passwordUtil;
+    private String encodedPassword;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16));
+        passwordUtil = new PasswordUtil(executor, new SimpleMeterRegistry(), strength);
+        encodedPassword = passwordUtil.encode(RAW_PASSWORD);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Benchmark
+    public String encode() {
+        return passwordUtil.encode(RAW_PASSWORD);
+    }
+    
+    @Benchmark
+    public boolean matches() {
+        return passwordUtil.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.user.benchmark;
+
+import com.example.user.dto.ApiResponse;
+import com.example.user.dto.UserResponse;
+import com.example.user.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> UserResponse 변환과 ApiResponse JSON 직렬화 비용 (단건 / 1만 건)
+ * Spring MVC 메시지 컨버터와 같은 기본 설정의 ObjectMapper 사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserResponseSerializationBenchmark {
+    
+    @Param({"1", "10000"})
+    private int userCount;
+    
+    private ObjectMapper objectMapper;
+    private List<User> users;
+    private List<UserResponse> responses;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(User.builder()
+                    .userId("user" + i + "@kt.com")
+                    .username("사용자" + i)
+                    .nickname("행복한고양이" + i)
+                    .password("$2a$10$abcdefghijklmnopqrstuvABCDEFGHIJKLMNOPQRSTUVWXYZ01234")
+                    .build());
+        }
+        responses = users.stream().map(UserResponse::from).toList();
+    }
+    
+    @Benchmark
+    public List<UserResponse> convert() {
+        return users.stream().map(UserResponse::from).toList();
+    }
+    
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(responses));
+    }
+    
+    @Benchmark
+    public byte[] convertAndSerialize() throws JsonProcessingException {
+        List<UserResponse> converted = users.stream().map(UserResponse::from).toList();
+        return objectMapper.writeValueAsBytes(ApiResponse.success(converted));
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.user.audit;
+
+import com.example.user.entity.AuditEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 이벤트 비동기 배치 기록기
+ * 요청 스레드는 고정 크기 버퍼(ArrayBlockingQueue, 링 버퍼)에 이벤트를 넣기만 하고,
+ * 전용 writer 스레드가 batch-size만큼 모이거나 첫 이벤트 후 flush-interval이 지나면 JDBC 배치 INSERT 한 번으로 기록한다.
+ * (audit_events는 IDENTITY 키라 JPA로는 배치되지 않으므로 JdbcTemplate 사용, rewriteBatchedStatements로 다중 VALUES 한 문장)
+ *
+ * 버퍼가 가득 차면 overflow-policy에 따라 새 이벤트 버림(DROP_NEWEST), 가장 오래된 이벤트 버림(DROP_OLDEST),
+ * block-timeout까지 대기 후 버림(BLOCK) 중 하나로 처리하며, 버린 건수는 audit.events{result=dropped}로 남긴다.
+ * 종료 시에는 웹 서버가 멈춘 뒤(더 이상 이벤트가 들어오지 않을 때) 남은 이벤트를 모두 기록하고 끝낸다.
+ *
+ * 배치 INSERT는 한 트랜잭션으로 실행해 실패 시 일부만 커밋되지 않게 하고(재시도/분할 시 중복 기록 방지), 실패하면
+ * - 일시적 오류(연결 끊김 등): backoff를 두고 다시 시도하고, 끝내 실패하면 배치 전체를 fallback 파일에 기록
+ * - 데이터 오류(제약 위반 등): 배치를 반씩 나눠 다시 기록해 문제 행만 fallback 파일로 보내고 나머지는 DB에 기록
+ * fallback 파일은 한 줄에 이벤트 하나인 NDJSON이며, 파일 기록마저 실패하면 로그에 남긴다.
+ */
+@Component
+@Slf4j
+public class AuditLogger implements SmartLifecycle {
+    
+    private static final String INSERT_SQL = "INSERT INTO audit_events (event_type, user_id, client_ip, detail, occurred_at) "
+            + "VALUES (?, ?, ?, ?, ?)";
+    private static final long STOP_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final BlockingQueue<AuditEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Path fallbackFile;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter retriedCounter;
+    private final Counter fallbackCounter;
+    private final Counter failedCounter;
+    
+    private volatile boolean running;
+    private Thread writer;
+    
+    public AuditLogger(JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       ObjectMapper objectMapper,
+                       @Value("${audit.enabled:true}") boolean enabled,
+                       @Value("${audit.buffer-capacity:8192}") int bufferCapacity,
+                       @Value("${audit.batch-size:200}") int batchSize,
+                       @Value("${audit.flush-interval-ms:1000}") long flushIntervalMillis,
+                       @Value("${audit.overflow-policy:DROP_NEWEST}") OverflowPolicy overflowPolicy,
+                       @Value("${audit.block-timeout-ms:50}") long blockTimeoutMillis,
+                       @Value("${audit.shutdown-timeout-ms:10000}") long shutdownTimeoutMillis,
+                       @Value("${audit.retry.max-attempts:3}") int maxAttempts,
+                       @Value("${audit.retry.backoff-ms:200}") long backoffMillis,
+                       @Value("${audit.fallback-file:logs/audit-fallback.ndjson}") Path fallbackFile,
+                       MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        this.fallbackFile = fallbackFile;
+        this.writtenCounter = Counter.builder("audit.events").tag("result", "written").register(meterRegistry);
+        this.droppedCounter = Counter.builder("audit.events").tag("result", "dropped").register(meterRegistry);
+        this.retriedCounter = Counter.builder("audit.batch.retries").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("audit.events").tag("result", "fallback").register(meterRegistry);
+        this.failedCounter = Counter.builder("audit.events").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("audit.buffer.size", buffer, BlockingQueue::size).register(meterRegistry);
+        
+        log.info("감사 로그 설정 - enabled: {}, bufferCapacity: {}, batchSize: {}, flushInterval: {}ms, overflowPolicy: {}",
+                enabled, bufferCapacity, batchSize, flushIntervalMillis, overflowPolicy);
+    }
+    
+    /**
+     * 이벤트를 버퍼에 추가 (DB에 쓰지 않으므로 요청 지연에 영향 없음)
+     * 실패 이벤트처럼 트랜잭션 결과와 무관하게 남겨야 하는 경우 사용
+     */
+    public void record(AuditEvent event) {
+        if (!enabled) {
+            return;
+        }
+        boolean accepted = switch (overflowPolicy) {
+            case DROP_NEWEST -> buffer.offer(event);
+            case DROP_OLDEST -> offerDroppingOldest(event);
+            case BLOCK -> offerWaiting(event);
+        };
+        if (!accepted) {
+            droppedCounter.increment();
+        }
+    }
+    
+    /**
+     * 현재 트랜잭션이 커밋된 경우에만 이벤트 추가 (롤백된 등록/삭제가 기록되지 않도록)
+     */
+    public void recordAfterCommit(AuditEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(event);
+                }
+            });
+        } else {
+            record(event);
+        }
+    }
+    
+    private boolean offerDroppingOldest(AuditEvent event) {
+        while (!buffer.offer(event)) {
+            if (buffer.poll() != null) {
+                droppedCounter.increment();
+            }
+        }
+        return true;
+    }
+    
+    private boolean offerWaiting(AuditEvent event) {
+        try {
+            return buffer.offer(event, blockTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("audit-writer").daemon().start(this::runWriter);
+    }
+    
+    /**
+     * 새 이벤트가 더 들어오지 않는 시점에 호출되며, writer가 버퍼를 비울 때까지 기다린다
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive() || !buffer.isEmpty()) {
+            log.warn("종료 시간 내에 감사 이벤트를 모두 기록하지 못했습니다 - 남은 이벤트: {}건", buffer.size());
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * 웹 서버(graceful shutdown 포함)보다 먼저 시작하고 나중에 종료
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+    
+    private void runWriter() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                fillBatch(batch);
+            } catch (InterruptedException e) {
+                // 종료는 running 플래그로 처리하므로 인터럽트는 무시하고 남은 이벤트를 계속 기록
+                Thread.interrupted();
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        log.info("감사 로그 writer 종료");
+    }
+    
+    /**
+     * batch-size만큼 모이거나 첫 이벤트 후 flush-interval이 지날 때까지 채움
+     * 종료 요청을 놓치지 않도록 짧게 나눠 기다리고, 종료 중에는 모인 만큼 바로 기록한다.
+     */
+    private void fillBatch(List<AuditEvent> batch) throws InterruptedException {
+        AuditEvent first = buffer.poll(STOP_CHECK_NANOS, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || !running || remaining <= 0) {
+                return;
+            }
+            AuditEvent next = buffer.poll(Math.min(remaining, STOP_CHECK_NANOS), TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+    
+    /**
+     * 일시적 오류는 backoff 후 재시도, 데이터 오류는 배치를 나눠 문제 행만 fallback으로 보냄
+     */
+    private void write(List<AuditEvent> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (NonTransientDataAccessException e) {
+                // 같은 데이터로 다시 시도해도 실패하므로 나눠서 문제 행을 찾음
+                split(batch, e);
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("감사 이벤트 {}건 기록 실패 ({}회 시도), fallback 파일로 기록: {}", batch.size(), attempt, e.getMessage());
+                    writeFallback(batch, e);
+                    return;
+                }
+                retriedCounter.increment();
+                log.warn("감사 이벤트 {}건 기록 실패, 재시도 {}/{}: {}", batch.size(), attempt, maxAttempts - 1, e.getMessage());
+                if (!sleep(backoffMillis << (attempt - 1))) {
+                    writeFallback(batch, e);
+                    return;
+                }
+            }
+        }
+    }
+    
+    private void split(List<AuditEvent> batch, Exception cause) {
+        if (batch.size() == 1) {
+            log.error("감사 이벤트 기록 실패, fallback 파일로 기록 - type: {}, userId: {}: {}",
+                    batch.get(0).getEventType(), batch.get(0).getUserId(), cause.getMessage());
+            writeFallback(batch, cause);
+            return;
+        }
+        int middle = batch.size() / 2;
+        write(batch.subList(0, middle));
+        write(batch.subList(middle, batch.size()));
+    }
+    
+    private void insert(List<AuditEvent> batch) {
+        // autocommit이면 드라이버가 나눠 보낸 앞부분만 커밋된 채 실패할 수 있으므로 배치 전체를 한 트랜잭션으로 묶음
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+                    ps.setString(1, event.getEventType().name());
+                    ps.setString(2, event.getUserId());
+                    ps.setString(3, event.getClientIp());
+                    ps.setString(4, event.getDetail());
+                    ps.setTimestamp(5, Timestamp.from(event.getOccurredAt()));
+                }));
+        writtenCounter.increment(batch.size());
+    }
+    
+    /**
+     * DB에 기록하지 못한 이벤트를 로컬 파일에 추가 (writer 스레드에서만 호출)
+     */
+    private void writeFallback(List<AuditEvent> events, Exception cause) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (AuditEvent event : events) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("eventType", event.getEventType());
+                line.put("userId", event.getUserId());
+                line.put("clientIp", event.getClientIp());
+                line.put("detail", event.getDetail());
+                line.put("occurredAt", event.getOccurredAt().toString());
+                line.put("error", cause.getClass().getSimpleName());
+                lines.append(objectMapper.writeValueAsString(line)).append('\n');
+            }
+            Path parent = fallbackFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(fallbackFile, lines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            fallbackCounter.increment(events.size());
+        } catch (IOException e) {
+            failedCounter.increment(events.size());
+            log.error("감사 이벤트 {}건 fallback 기록 실패: {}\n{}", events.size(), e.getMessage(), lines);
+        }
+    }
+    
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    /**
+     * 버퍼가 가득 찼을 때의 처리 방식
+     */
+    public enum OverflowPolicy {
+        DROP_NEWEST,
+        DROP_OLDEST,
+        BLOCK
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.user.cache;
+
+import com.example.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 닉네임 사용 여부 인메모리 인덱스
+ * 기동 시 users 테이블의 모든 닉네임으로 Bloom filter를 채우고 등록/삭제 시 갱신한다.
+ * - Bloom filter 음성: DB 조회 없이 사용 가능으로 판정
+ * - 최근 확인된 사용 중 닉네임(exact set): DB 조회 없이 사용 중으로 판정
+ * - 그 외(양성 가능성): DB 조회 후 결과를 exact set에 기록
+ * Bloom filter에서는 삭제할 수 없으므로 삭제된 닉네임은 DB 확인 경로로 처리된다.
+ * 확인된 닉네임은 양방향(닉네임->사용자, 사용자->닉네임) 캐시로 보관하며, 한쪽만 먼저 제거되더라도
+ * 삭제된 닉네임이 계속 사용 중으로 남지 않도록 TTL을 둔다.
+ */
+@Component
+@Slf4j
+public class NicknameIndex {
+    
+    private final UserRepository userRepository;
+    private final BloomFilter filter;
+    private final Cache<String, String> userIdByNickname;
+    private final Cache<String, String> nicknameByUserId;
+    private volatile boolean ready = false;
+    
+    private final Counter bloomNegativeCounter;
+    private final Counter confirmedCounter;
+    private final Counter dbLookupCounter;
+    
+    public NicknameIndex(UserRepository userRepository,
+                         @Value("${nickname.index.expected-insertions:1000000}") long expectedInsertions,
+                         @Value("${nickname.index.false-positive-rate:0.01}") double falsePositiveRate,
+                         @Value("${nickname.index.confirmed-max-size:100000}") long confirmedMaxSize,
+                         @Value("${nickname.index.confirmed-ttl:10m}") Duration confirmedTtl,
+                         MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.userIdByNickname = Caffeine.newBuilder().maximumSize(confirmedMaxSize).expireAfterWrite(confirmedTtl).build();
+        this.nicknameByUserId = Caffeine.newBuilder().maximumSize(confirmedMaxSize).expireAfterWrite(confirmedTtl).build();
+        
+        this.bloomNegativeCounter = lookupCounter(meterRegistry, "bloom_negative");
+        this.confirmedCounter = lookupCounter(meterRegistry, "confirmed");
+        this.dbLookupCounter = lookupCounter(meterRegistry, "db");
+        Gauge.builder("nickname.index.size", filter, BloomFilter::insertions)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 기동 완료 후 users 테이블의 닉네임으로 Bloom filter 채우기
+     * 채우는 동안 등록된 닉네임도 같은 filter에 들어가므로 누락되지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long started = System.currentTimeMillis();
+        try (Stream<String> nicknames = userRepository.streamAllNicknames()) {
+            nicknames.forEach(nickname -> filter.put(normalize(nickname)));
+        }
+        ready = true;
+        log.info("닉네임 인덱스 준비 완료: {}건, {}ms", filter.insertions(), System.currentTimeMillis() - started);
+    }
+    
+    /**
+     * 닉네임 사용 여부 확인
+     * @param nickname 닉네임
+     * @return 이미 사용 중이면 true
+     */
+    public boolean isTaken(String nickname) {
+        if (userIdByNickname.getIfPresent(nickname) != null) {
+            confirmedCounter.increment();
+            return true;
+        }
+        if (ready && !filter.mightContain(normalize(nickname))) {
+            bloomNegativeCounter.increment();
+            return false;
+        }
+        
+        dbLookupCounter.increment();
+        List<String> owners = userRepository.findUserIdsByNickname(nickname);
+        if (owners.isEmpty()) {
+            return false;
+        }
+        remember(nickname, owners.get(0));
+        return true;
+    }
+    
+    /**
+     * 여러 닉네임의 사용 여부를 한 번에 확인
+     * 확인된 닉네임과 Bloom filter 음성은 메모리에서 판정하고, 나머지만 IN 조회 한 번으로 확인한다.
+     * @param nicknames 닉네임 목록
+     * @return 이미 사용 중인 닉네임 (입력 값 그대로)
+     */
+    public Set<String> findTaken(Collection<String> nicknames) {
+        Set<String> taken = new HashSet<>();
+        List<String> uncertain = new ArrayList<>();
+        for (String nickname : nicknames) {
+            if (userIdByNickname.getIfPresent(nickname) != null) {
+                confirmedCounter.increment();
+                taken.add(nickname);
+            } else if (ready && !filter.mightContain(normalize(nickname))) {
+                bloomNegativeCounter.increment();
+            } else {
+                uncertain.add(nickname);
+            }
+        }
+        if (uncertain.isEmpty()) {
+            return taken;
+        }
+        
+        dbLookupCounter.increment();
+        // DB 콜레이션에 따라 저장된 표기가 다를 수 있으므로 정규화해서 비교
+        Set<String> existing = userRepository.findExistingNicknames(uncertain).stream()
+                .map(NicknameIndex::normalize)
+                .collect(Collectors.toSet());
+        for (String nickname : uncertain) {
+            if (existing.contains(normalize(nickname))) {
+                taken.add(nickname);
+            }
+        }
+        return taken;
+    }
+    
+    /**
+     * 사용자 등록 시 닉네임 추가
+     * Bloom filter에는 즉시 반영하고(롤백돼도 오탐만 늘 뿐), 확인된 닉네임은 커밋 후에 기록
+     */
+    public void add(String nickname, String userId) {
+        filter.put(normalize(nickname));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(nickname, userId);
+                }
+            });
+        } else {
+            remember(nickname, userId);
+        }
+    }
+    
+    /**
+     * 사용자 삭제 시 확인된 닉네임에서 제거 (Bloom filter에는 남아 DB 확인 경로로 처리됨)
+     * 사용자->닉네임 항목이 먼저 밀려난 경우에는 닉네임->사용자 캐시를 값으로 훑어 제거
+     */
+    public void removeUser(String userId) {
+        String owner = ownerKey(userId);
+        String nickname = nicknameByUserId.asMap().remove(owner);
+        if (nickname != null) {
+            userIdByNickname.asMap().remove(nickname, owner);
+        } else {
+            userIdByNickname.asMap().values().removeIf(owner::equals);
+        }
+    }
+    
+    private void remember(String nickname, String userId) {
+        String owner = ownerKey(userId);
+        userIdByNickname.put(nickname, owner);
+        nicknameByUserId.put(owner, nickname);
+    }
+    
+    /**
+     * 사용자 ID도 DB 콜레이션처럼 대소문자를 구분하지 않도록 소문자로 보관
+     */
+    private static String ownerKey(String userId) {
+        return userId.toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * DB 콜레이션(대소문자/악센트 무시)보다 넓게 같은 값으로 취급하도록 정규화
+     * 과하게 묶이면 오탐(DB 확인)만 늘고, 덜 묶이면 중복을 놓치므로 넓은 쪽을 택함
+     */
+    private static String normalize(String nickname) {
+        String decomposed = Normalizer.normalize(nickname.strip(), Normalizer.Form.NFKD);
+        return decomposed.replaceAll("\\p{Mn}+", "").toLowerCase(Locale.ROOT);
+    }
+    
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("nickname.index.lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
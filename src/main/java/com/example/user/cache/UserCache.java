@@ -0,0 +1,130 @@
+package com.example.user.cache;
+
+import com.example.user.dto.UserResponse;
+import com.example.user.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 사용자 조회 read-through 로컬 캐시
+ * 존재하지 않는 ID도 짧은 TTL로 캐시(negative caching)하여 반복 조회가 DB로 가지 않도록 한다.
+ * - 엔티티 캐시: 로그인처럼 비밀번호 해시가 필요한 경로용, 트랜잭션이 끝난 detached 엔티티이며 변경 메서드가 없어 공유해도 안전하다.
+ * - 응답 캐시: 사용자 조회용, 비밀번호를 제외하고 조회한 UserResponse를 보관한다.
+ * 무효화는 두 캐시에 함께 적용된다.
+ * DB 콜레이션이 대소문자를 구분하지 않으므로 키는 소문자로 맞춰, 어떤 표기로 조회/무효화해도 같은 항목을 가리키게 한다.
+ */
+@Component
+@Slf4j
+public class UserCache {
+    
+    private final Cache<String, Optional<User>> cache;
+    private final Cache<String, Optional<UserResponse>> responseCache;
+    
+    public UserCache(@Value("${user.cache.max-size:10000}") long maxSize,
+                     @Value("${user.cache.ttl:10m}") Duration ttl,
+                     @Value("${user.cache.negative-ttl:30s}") Duration negativeTtl,
+                     MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PresenceExpiry<User>(ttl.toNanos(), negativeTtl.toNanos()))
+                .recordStats()
+                .build();
+        this.responseCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PresenceExpiry<UserResponse>(ttl.toNanos(), negativeTtl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user");
+        CaffeineCacheMetrics.monitor(meterRegistry, responseCache, "user.response");
+        
+        log.info("사용자 캐시 설정 - maxSize: {}, ttl: {}, negativeTtl: {}", maxSize, ttl, negativeTtl);
+    }
+    
+    /**
+     * 캐시에서 조회하고, 없으면 loader로 읽어 캐시 (같은 키의 동시 미스는 한 번만 로드)
+     * @param userId 사용자 ID
+     * @param loader 캐시 미스 시 조회 함수
+     * @return 사용자 (없으면 empty)
+     */
+    public Optional<User> get(String userId, Function<String, Optional<User>> loader) {
+        return cache.get(key(userId), k -> loader.apply(userId));
+    }
+    
+    /**
+     * 응답 캐시에서 조회하고, 없으면 loader로 읽어 캐시 (같은 키의 동시 미스는 한 번만 로드)
+     * @param userId 사용자 ID
+     * @param loader 캐시 미스 시 조회 함수
+     * @return 사용자 응답 (없으면 empty)
+     */
+    public Optional<UserResponse> getResponse(String userId, Function<String, Optional<UserResponse>> loader) {
+        return responseCache.get(key(userId), k -> loader.apply(userId));
+    }
+    
+    /**
+     * 캐시 항목 제거
+     * 트랜잭션 안이면 커밋 직후에도 한 번 더 제거하여, 커밋 전에 다른 요청이 옛 값을 다시 채운 경우를 막음
+     */
+    public void invalidate(String userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+    
+    private void evict(String userId) {
+        String key = key(userId);
+        cache.invalidate(key);
+        responseCache.invalidate(key);
+    }
+    
+    private static String key(String userId) {
+        return userId.toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 존재하는 사용자와 존재하지 않는 사용자의 TTL을 다르게 적용
+     */
+    private static class PresenceExpiry<V> implements Expiry<String, Optional<V>> {
+        
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+        
+        PresenceExpiry(long ttlNanos, long negativeTtlNanos) {
+            this.ttlNanos = ttlNanos;
+            this.negativeTtlNanos = negativeTtlNanos;
+        }
+        
+        @Override
+        public long expireAfterCreate(String key, Optional<V> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, Optional<V> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, Optional<V> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.user.cache;
+
+import com.example.user.entity.UserChange;
+import com.example.user.repository.UserChangeRepository;
+import com.example.user.security.SessionTokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * user_changes 테이블을 seq 순으로 따라가며 이 인스턴스의 로컬 캐시를 무효화
+ * 외부 브로커 없이 여러 인스턴스 간 캐시 불일치를 poll 주기 수준으로 제한한다.
+ *
+ * AUTO_INCREMENT 값은 커밋 순서와 다를 수 있으므로 seq에 빈 곳이 보이면 gap-timeout 동안
+ * 커서를 그 앞에 멈춰 두고 다시 읽는다 (무효화는 멱등이라 재처리해도 무방).
+ * 롤백으로 영구히 비는 seq는 gap-timeout이 지나면 건너뛴다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "user.change-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class UserChangePoller {
+    
+    private final UserChangeRepository userChangeRepository;
+    private final UserCache userCache;
+    private final VerifiedCredentialCache credentialCache;
+    private final NicknameIndex nicknameIndex;
+    private final SessionTokenService sessionTokenService;
+    private final Counter appliedCounter;
+    
+    @Value("${user.change-log.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${user.change-log.gap-timeout-ms:10000}")
+    private long gapTimeoutMillis;
+    
+    @Value("${user.change-log.retention-minutes:60}")
+    private long retentionMinutes;
+    
+    private final Map<Long, Long> gapFirstSeenAt = new HashMap<>();
+    private final ReentrantLock pollLock = new ReentrantLock(); // 가상 스레드 pinning을 피하려 synchronized 대신 사용
+    private volatile long cursor = -1; // 이 값 이하의 seq는 모두 처리됨 (-1: 아직 시작 전)
+    
+    public UserChangePoller(UserChangeRepository userChangeRepository,
+                            UserCache userCache,
+                            VerifiedCredentialCache credentialCache,
+                            NicknameIndex nicknameIndex,
+                            SessionTokenService sessionTokenService,
+                            MeterRegistry meterRegistry) {
+        this.userChangeRepository = userChangeRepository;
+        this.userCache = userCache;
+        this.credentialCache = credentialCache;
+        this.nicknameIndex = nicknameIndex;
+        this.sessionTokenService = sessionTokenService;
+        this.appliedCounter = Counter.builder("user.change-log.applied")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 기동 시점 이전 변경은 비어 있는 로컬 캐시와 무관하므로 현재 최대 seq부터 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        cursor = userChangeRepository.findMaxSeq();
+        log.info("사용자 변경 로그 추적 시작: seq {}", cursor);
+    }
+    
+    @Scheduled(fixedDelayString = "${user.change-log.poll-interval-ms:1000}")
+    public void poll() {
+        if (cursor < 0 || !pollLock.tryLock()) {
+            return;
+        }
+        try {
+            List<UserChange> changes = userChangeRepository.findBySeqGreaterThanOrderBySeqAsc(cursor, Limit.of(batchSize));
+            long now = System.currentTimeMillis();
+            long expected = cursor + 1;
+            long next = cursor;
+            boolean blocked = false;
+            
+            for (UserChange change : changes) {
+                apply(change);
+                
+                while (!blocked && expected < change.getSeq()) {
+                    long firstSeen = gapFirstSeenAt.computeIfAbsent(expected, seq -> now);
+                    if (now - firstSeen < gapTimeoutMillis) {
+                        blocked = true;
+                    } else {
+                        expected++;
+                    }
+                }
+                if (!blocked) {
+                    next = change.getSeq();
+                    expected = next + 1;
+                }
+            }
+            
+            cursor = next;
+            long processed = next;
+            gapFirstSeenAt.keySet().removeIf(seq -> seq <= processed);
+        } catch (Exception e) {
+            log.warn("사용자 변경 로그 조회 실패: {}", e.getMessage());
+        } finally {
+            pollLock.unlock();
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${user.change-log.purge-interval-ms:600000}")
+    public void purge() {
+        try {
+            Instant cutoff = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+            int deleted = userChangeRepository.deleteOlderThan(cutoff);
+            if (deleted > 0) {
+                log.info("오래된 사용자 변경 로그 삭제: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("사용자 변경 로그 정리 실패: {}", e.getMessage());
+        }
+    }
+    
+    private void apply(UserChange change) {
+        String userId = change.getUserId();
+        userCache.invalidate(userId);
+        switch (change.getChangeType()) {
+            case CREATED -> nicknameIndex.add(change.getNickname(), userId);
+            case DELETED -> {
+                credentialCache.invalidate(userId);
+                nicknameIndex.removeUser(userId);
+                sessionTokenService.revokeAllFor(userId);
+            }
+        }
+        appliedCounter.increment();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 최근 BCrypt 검증에 성공한 자격 증명 캐시
+ * 평문 비밀번호 대신 인스턴스별 임의 키로 계산한 HMAC과 당시의 저장 해시를 보관하고,
+ * TTL 안에 같은 비밀번호로 재로그인하면 BCrypt 검증을 생략한다.
+ * 저장 해시가 바뀌면 해당 항목은 자동으로 무효가 된다.
+ * 키는 소문자로 맞춰 DB처럼 대소문자만 다른 사용자 ID를 같은 항목으로 취급한다.
+ */
+@Component
+@Slf4j
+public class VerifiedCredentialCache {
+    
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    
+    private final boolean enabled;
+    private final SecretKeySpec hmacKey;
+    private final Cache<String, Entry> cache;
+    
+    public VerifiedCredentialCache(@Value("${password.credential-cache.enabled:false}") boolean enabled,
+                                   @Value("${password.credential-cache.ttl:5m}") Duration ttl,
+                                   @Value("${password.credential-cache.max-size:10000}") long maxSize,
+                                   MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.hmacKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+        
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verified-credential");
+        
+        log.info("검증 자격 증명 캐시 설정 - enabled: {}, ttl: {}, maxSize: {}", enabled, ttl, maxSize);
+    }
+    
+    /**
+     * 캐시로 비밀번호 검증이 가능한지 확인
+     * @param userId 사용자 ID
+     * @param rawPassword 평문 비밀번호
+     * @param storedHash 현재 저장된 해시
+     * @return 캐시된 검증 결과와 일치하면 true (false면 BCrypt 검증 필요)
+     */
+    public boolean isVerified(String userId, String rawPassword, String storedHash) {
+        if (!enabled) {
+            return false;
+        }
+        String key = key(userId);
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return false;
+        }
+        if (!entry.storedHash().equals(storedHash)) {
+            cache.invalidate(key);
+            return false;
+        }
+        return MessageDigest.isEqual(entry.mac(), hmac(key, rawPassword));
+    }
+    
+    /**
+     * BCrypt 검증에 성공한 자격 증명을 기록
+     */
+    public void put(String userId, String rawPassword, String storedHash) {
+        if (enabled) {
+            String key = key(userId);
+            cache.put(key, new Entry(storedHash, hmac(key, rawPassword)));
+        }
+    }
+    
+    /**
+     * 사용자 삭제 등으로 더 이상 유효하지 않은 항목 제거
+     */
+    public void invalidate(String userId) {
+        cache.invalidate(key(userId));
+    }
+    
+    private static String key(String userId) {
+        return userId.toLowerCase(Locale.ROOT);
+    }
+    
+    private byte[] hmac(String userId, String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            mac.update(userId.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 계산에 실패했습니다", e);
+        }
+    }
+    
+    private record Entry(String storedHash, byte[] mac) {
+    }
+}
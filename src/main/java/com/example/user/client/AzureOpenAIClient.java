@@ -3,6 +3,8 @@ package com.example.user.client;
 import com.example.user.config.AzureOpenAIConfig;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
@@ -14,6 +16,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +26,7 @@ public class AzureOpenAIClient {
     private final AzureOpenAIConfig azureConfig;
     private final WebClient.Builder webClientBuilder;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
     
     /**
      * Azure OpenAI API를 사용하여 닉네임을 생성합니다.
@@ -31,8 +35,11 @@ public class AzureOpenAIClient {
      * @return 생성된 닉네임
      */
     public String generateNickname(String prompt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            WebClient webClient = webClientBuilder
+            // 주입된 Builder를 변경하면 호출마다 헤더가 누적되므로 복제하여 사용
+            WebClient webClient = webClientBuilder.clone()
                     .baseUrl(azureConfig.getEndpoint())
                     .defaultHeader("api-key", azureConfig.getApiKey())
                     .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -57,11 +64,21 @@ public class AzureOpenAIClient {
                     .timeout(Duration.ofSeconds(azureConfig.getTimeout()))
                     .block();
             
-            return extractNicknameFromResponse(response);
+            String nickname = extractNicknameFromResponse(response);
+            outcome = "success";
+            return nickname;
             
         } catch (Exception e) {
+            if (e.getCause() instanceof TimeoutException) {
+                outcome = "timeout";
+            }
             log.error("Azure OpenAI API 호출 중 오류 발생", e);
             throw new RuntimeException("닉네임 생성 중 오류가 발생했습니다", e);
+        } finally {
+            sample.stop(Timer.builder("azure.openai.requests")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
         }
     }
     
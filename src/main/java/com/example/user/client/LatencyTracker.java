@@ -0,0 +1,44 @@
+package com.example.user.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 최근 성공 호출 지연시간 표본 (고정 크기 링 버퍼)
+ */
+public class LatencyTracker {
+    
+    private final long[] samples;
+    private int next;
+    private int count;
+    
+    public LatencyTracker(int capacity) {
+        this.samples = new long[Math.max(1, capacity)];
+    }
+    
+    public synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+    
+    /**
+     * @param percentile 0~1 사이 백분위
+     * @param minSamples 이보다 표본이 적으면 fallback 반환
+     * @param fallback 표본 부족 시 값
+     */
+    public Duration percentile(double percentile, int minSamples, Duration fallback) {
+        long[] snapshot;
+        synchronized (this) {
+            if (count < minSamples) {
+                return fallback;
+            }
+            snapshot = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(snapshot);
+        int index = (int) Math.ceil(percentile * snapshot.length) - 1;
+        return Duration.ofNanos(snapshot[Math.min(snapshot.length - 1, Math.max(0, index))]);
+    }
+}
@@ -1,67 +1,259 @@
 package com.example.user.client;
 
+import com.example.user.config.PythonNicknameServiceConfig;
 import com.example.user.dto.NicknameGenerateRequest;
 import com.example.user.dto.NicknameGenerateResponse;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.example.user.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
-public class PythonNicknameServiceClient {
+public class PythonNicknameServiceClient implements DisposableBean {
     
-    private final WebClient.Builder webClientBuilder;
-    private final ObjectMapper objectMapper;
+    private final PythonNicknameServiceConfig config;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final UpstreamCircuitBreaker circuitBreaker;
+    private final LatencyTracker latencyTracker = new LatencyTracker(256);
+    private final MeterRegistry meterRegistry;
     
-    @Value("${python.nickname-service.url:http://nickname-service-python:8088}")
-    private String pythonServiceUrl;
+    private final Counter rejectedCounter;
+    private final Counter deadlineExceededCounter;
+    private final Counter hedgeFiredCounter;
+    private final Counter hedgeWonCounter;
     
-    @Value("${python.nickname-service.timeout:30}")
-    private int timeoutSeconds;
+    /**
+     * 커넥션 풀을 공유하는 WebClient를 한 번만 생성합니다.
+     * 유휴 커넥션은 Python 서버의 keep-alive(uvicorn 기본 5초)보다 먼저 정리하여 끊긴 커넥션 재사용을 피합니다.
+     */
+    public PythonNicknameServiceClient(WebClient.Builder webClientBuilder,
+                                       PythonNicknameServiceConfig config,
+                                       MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        
+        PythonNicknameServiceConfig.Pool pool = config.getPool();
+        this.connectionProvider = ConnectionProvider.builder("nickname-service")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTimeMs()))
+                .evictInBackground(Duration.ofSeconds(30))
+                .build();
+        
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeoutMs())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true);
+        
+        // 공유 Builder를 변경하지 않도록 복제하여 사용
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(config.getUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+        
+        PythonNicknameServiceConfig.CircuitBreaker breaker = config.getCircuitBreaker();
+        this.circuitBreaker = new UpstreamCircuitBreaker(breaker.getWindowSize(), breaker.getMinimumCalls(),
+                breaker.getFailureRateThreshold(), breaker.getOpenDurationMs(), breaker.getHalfOpenPermits());
+        
+        Gauge.builder("nickname.upstream.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("0=closed, 1=open, 2=half-open")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("nickname.upstream.circuit.rejected").register(meterRegistry);
+        this.deadlineExceededCounter = Counter.builder("nickname.upstream.deadline.exceeded").register(meterRegistry);
+        this.hedgeFiredCounter = Counter.builder("nickname.upstream.hedge").tag("result", "fired").register(meterRegistry);
+        this.hedgeWonCounter = Counter.builder("nickname.upstream.hedge").tag("result", "won").register(meterRegistry);
+    }
+    
+    /**
+     * Python 닉네임 서비스를 호출하여 닉네임을 생성합니다. (기본 deadline 적용)
+     * 
+     * @param request 닉네임 생성 요청
+     * @return 닉네임 생성 응답
+     */
+    public Mono<NicknameGenerateResponse> generateNickname(NicknameGenerateRequest request) {
+        return generateNickname(request, Duration.ofMillis(config.getDeadlineMs()));
+    }
     
     /**
      * Python 닉네임 서비스를 호출하여 닉네임을 생성합니다.
+     * 요청 스레드를 점유하지 않으며, 서킷이 열려 있으면 호출 없이 즉시 ServiceBusyException으로 끝납니다.
+     * 헤징이 켜져 있으면 최근 p95 지연이 지나도 응답이 없을 때 두 번째 요청을 보내고 먼저 성공한 응답을 사용합니다.
      * 
      * @param request 닉네임 생성 요청
+     * @param deadline 헤징을 포함한 전체 허용 시간 (기본 deadline보다 길면 기본값 사용)
      * @return 닉네임 생성 응답
      */
-    public NicknameGenerateResponse generateNickname(NicknameGenerateRequest request) {
-        try {
-            WebClient webClient = webClientBuilder
-                    .baseUrl(pythonServiceUrl)
-                    .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .build();
-            
-            Map<String, Object> requestBody = createRequestBody(request);
+    public Mono<NicknameGenerateResponse> generateNickname(NicknameGenerateRequest request, Duration deadline) {
+        Duration budget = min(deadline, Duration.ofMillis(config.getDeadlineMs()));
+        Map<String, Object> requestBody = createRequestBody(request);
+        
+        Mono<NicknameGenerateResponse> call = config.getHedging().isEnabled()
+                ? hedged(requestBody, budget)
+                : attempt(requestBody, budget);
+        
+        return call
+                .doOnNext(response -> log.info("파싱된 응답 - 닉네임: {}, 사용가능: {}",
+                        response.getNickname(), response.isAvailable()))
+                .onErrorMap(e -> !(e instanceof ServiceBusyException), e -> {
+                    if (e instanceof TimeoutException) {
+                        deadlineExceededCounter.increment();
+                    }
+                    log.error("Python 닉네임 서비스 호출 중 오류 발생: {}", e.toString());
+                    return new RuntimeException("닉네임 생성 중 오류가 발생했습니다", e);
+                });
+    }
+    
+    /**
+     * 현재 서킷 브레이커 상태
+     */
+    public UpstreamCircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+    
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
+    }
+    
+    private Mono<NicknameGenerateResponse> hedged(Map<String, Object> requestBody, Duration budget) {
+        PythonNicknameServiceConfig.Hedging hedging = config.getHedging();
+        Duration hedgeDelay = max(Duration.ofMillis(hedging.getMinDelayMs()), latencyTracker.percentile(
+                hedging.getPercentile(), hedging.getMinSamples(), Duration.ofMillis(hedging.getInitialDelayMs())));
+        
+        // 서킷이 열려 있거나 헤지를 보낼 시간이 없으면 단일 시도로 처리
+        if (circuitBreaker.getState() == UpstreamCircuitBreaker.State.OPEN || hedgeDelay.compareTo(budget) >= 0) {
+            return attempt(requestBody, budget);
+        }
+        
+        Mono<NicknameGenerateResponse> primary = attempt(requestBody, budget);
+        Mono<NicknameGenerateResponse> hedge = Mono.delay(hedgeDelay)
+                .then(Mono.defer(() -> {
+                    hedgeFiredCounter.increment();
+                    // 헤지도 원래 요청과 같은 시각에 deadline이 끝나도록 남은 시간만 사용
+                    return attempt(requestBody, budget.minus(hedgeDelay));
+                }))
+                .doOnNext(response -> hedgeWonCounter.increment());
+        
+        // 먼저 성공한 쪽을 사용하고 나머지는 취소 (둘 다 실패하면 대표 오류로 변환)
+        return Mono.firstWithValue(primary, hedge)
+                .onErrorMap(PythonNicknameServiceClient::representativeError);
+    }
+    
+    /**
+     * 모든 시도가 실패했을 때 묶인 오류 중 호출자가 구분해야 하는 오류(서킷 거절, deadline 초과)를 우선 선택
+     */
+    private static Throwable representativeError(Throwable error) {
+        List<Throwable> candidates = new ArrayList<>();
+        candidates.add(error);
+        candidates.addAll(List.of(error.getSuppressed()));
+        if (error.getCause() != null) {
+            candidates.add(error.getCause());
+            candidates.addAll(List.of(error.getCause().getSuppressed()));
+        }
+        return candidates.stream().filter(ServiceBusyException.class::isInstance).findFirst()
+                .or(() -> candidates.stream().filter(TimeoutException.class::isInstance).findFirst())
+                .orElse(error);
+    }
+    
+    private Mono<NicknameGenerateResponse> attempt(Map<String, Object> requestBody, Duration budget) {
+        return Mono.defer(() -> {
+            int permit = circuitBreaker.tryAcquirePermission();
+            if (permit == UpstreamCircuitBreaker.REJECTED) {
+                rejectedCounter.increment();
+                long retryAfterSeconds = Math.max(1, (circuitBreaker.remainingOpenMillis() + 999) / 1000);
+                return Mono.error(new ServiceBusyException(
+                        "닉네임 생성 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요", retryAfterSeconds));
+            }
             
-            log.info("Python 닉네임 서비스 호출 - URL: {}/generate-nickname", pythonServiceUrl);
+            Duration readTimeout = Duration.ofMillis(config.getReadTimeoutMs());
+            long started = System.nanoTime();
+            log.info("Python 닉네임 서비스 호출 - URL: {}/generate-nickname", config.getUrl());
             
-            String response = webClient
+            return webClient
                     .post()
                     .uri("/generate-nickname")
                     .bodyValue(requestBody)
+                    .httpRequest(httpRequest -> {
+                        HttpClientRequest reactorRequest = httpRequest.getNativeRequest();
+                        reactorRequest.responseTimeout(readTimeout);
+                    })
                     .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(timeoutSeconds))
-                    .block();
-            
-            return parseResponse(response);
-            
-        } catch (Exception e) {
-            log.error("Python 닉네임 서비스 호출 중 오류 발생", e);
-            throw new RuntimeException("닉네임 생성 중 오류가 발생했습니다", e);
+                    .bodyToMono(NicknameGenerateResponse.class)
+                    .switchIfEmpty(Mono.error(new IllegalStateException("Python 서비스 응답 본문이 비어 있습니다")))
+                    .timeout(budget) // deadline 초과도 업스트림 실패로 기록
+                    .doOnNext(response -> {
+                        latencyTracker.record(System.nanoTime() - started);
+                        circuitBreaker.onSuccess(permit);
+                        recordAttempt("success", started);
+                    })
+                    .doOnError(e -> {
+                        if (isUpstreamFailure(e)) {
+                            circuitBreaker.onFailure(permit);
+                        } else {
+                            circuitBreaker.onIgnored(permit);
+                        }
+                        recordAttempt(outcome(e), started);
+                    })
+                    .doOnCancel(() -> {
+                        circuitBreaker.onIgnored(permit);
+                        recordAttempt("cancelled", started);
+                    });
+        });
+    }
+    
+    /**
+     * 시도별 업스트림 지연시간과 결과 (success, server_error, client_error, timeout, cancelled)
+     */
+    private void recordAttempt(String outcome, long startedNanos) {
+        Timer.builder("nickname.upstream.requests")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    private static String outcome(Throwable e) {
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError()) {
+            return "client_error";
         }
+        return "server_error";
+    }
+    
+    /**
+     * 4xx는 요청 문제이므로 업스트림 장애로 보지 않음
+     */
+    private boolean isUpstreamFailure(Throwable e) {
+        return !(e instanceof WebClientResponseException responseException
+                && responseException.getStatusCode().is4xxClientError());
     }
     
     /**
@@ -76,24 +268,11 @@ public class PythonNicknameServiceClient {
         return requestBody;
     }
     
-    /**
-     * Python 서비스 응답을 파싱합니다.
-     */
-    private NicknameGenerateResponse parseResponse(String response) {
-        try {
-            log.debug("Python 닉네임 서비스 응답: {}", response);
-            
-            JsonNode jsonNode = objectMapper.readTree(response);
-            String nickname = jsonNode.path("nickname").asText();
-            boolean isAvailable = jsonNode.path("is_available").asBoolean();
-            
-            log.info("파싱된 응답 - 닉네임: {}, 사용가능: {}", nickname, isAvailable);
-            
-            return new NicknameGenerateResponse(nickname, isAvailable);
-            
-        } catch (Exception e) {
-            log.error("Python 서비스 응답 파싱 중 오류 발생: {}", response, e);
-            throw new RuntimeException("닉네임 응답 파싱 중 오류가 발생했습니다", e);
-        }
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+    
+    private static Duration max(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
     }
 }
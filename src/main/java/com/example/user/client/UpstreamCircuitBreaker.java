@@ -0,0 +1,149 @@
+package com.example.user.client;
+
+/**
+ * 업스트림 호출용 서킷 브레이커 (호출 수 기준 슬라이딩 윈도우)
+ * CLOSED: 최근 windowSize 호출 중 실패율이 임계치를 넘으면 OPEN
+ * OPEN: openDuration 동안 호출 거절 후 HALF_OPEN
+ * HALF_OPEN: halfOpenPermits 개의 탐색 호출만 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 OPEN
+ *
+ * 상태가 바뀌면 세대(generation)가 증가하며, 이전 세대에서 허가받은 호출의 결과는 무시된다.
+ */
+public class UpstreamCircuitBreaker {
+    
+    public static final int REJECTED = -1;
+    
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+    
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenPermits;
+    
+    private final boolean[] outcomes; // true = 실패
+    private int next;
+    private int recorded;
+    private int failures;
+    
+    private State state = State.CLOSED;
+    private int generation;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+    
+    public UpstreamCircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                                  long openDurationMillis, int halfOpenPermits) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, minimumCalls);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000L;
+        this.halfOpenPermits = Math.max(1, halfOpenPermits);
+        this.outcomes = new boolean[this.windowSize];
+    }
+    
+    /**
+     * 호출 허가 요청
+     * @return 허가 세대 (거절 시 REJECTED)
+     */
+    public synchronized int tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSuccesses >= halfOpenPermits) {
+                return REJECTED;
+            }
+            halfOpenInFlight++;
+        }
+        return generation;
+    }
+    
+    public synchronized void onSuccess(int permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= halfOpenPermits) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+    
+    public synchronized void onFailure(int permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures * 100.0 / recorded >= failureRateThreshold) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+    
+    /**
+     * 결과 없이 끝난 호출(취소, 클라이언트 오류 등)의 허가 반환
+     */
+    public synchronized void onIgnored(int permit) {
+        if (permit == generation && state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+    
+    public synchronized State getState() {
+        return state;
+    }
+    
+    /**
+     * OPEN 상태가 끝나기까지 남은 시간 (OPEN이 아니면 0)
+     */
+    public synchronized long remainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0;
+        }
+        return Math.max(0, (openDurationNanos - (System.nanoTime() - openedAt)) / 1_000_000L);
+    }
+    
+    private void record(boolean failure) {
+        if (recorded == windowSize) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % windowSize;
+    }
+    
+    private void transitionTo(State target) {
+        state = target;
+        generation++;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (target == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+        if (target == State.CLOSED) {
+            next = 0;
+            recorded = 0;
+            failures = 0;
+        }
+    }
+}
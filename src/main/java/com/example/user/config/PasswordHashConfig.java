@@ -0,0 +1,39 @@
+package com.example.user.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class PasswordHashConfig {
+    
+    @Value("${password.hash.pool-size:0}")
+    private int poolSize;
+    
+    @Value("${password.hash.queue-capacity:64}")
+    private int queueCapacity;
+    
+    /**
+     * BCrypt 해시/검증 전용 스레드 풀
+     * 요청 스레드가 해시에 묶이지 않도록 분리하고, 큐가 가득 차면 즉시 거절(AbortPolicy)하여 부하를 차단
+     * 큐 길이/활성 스레드 수는 executor.* 메트릭(name=bcrypt)으로 노출
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashExecutor(MeterRegistry meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bcrypt-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        new ExecutorServiceMetrics(executor, "bcrypt", Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+}
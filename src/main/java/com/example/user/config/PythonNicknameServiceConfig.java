@@ -0,0 +1,58 @@
+package com.example.user.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "python.nickname-service")
+public class PythonNicknameServiceConfig {
+    private String url = "http://nickname-service-python:8088";
+    private static final long DEFAULT_DEADLINE_MS = 8000;
+    
+    private Long deadlineMs; // 요청 하나에 허용되는 전체 시간 (헤징 포함)
+    @Deprecated
+    private Long timeout; // 이전 전체 타임아웃(초), deadline-ms가 없을 때만 사용
+    private int connectTimeoutMs = 2000;
+    private long readTimeoutMs = 5000; // 시도 1회의 응답 대기 시간
+    private Pool pool = new Pool();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Hedging hedging = new Hedging();
+    
+    /**
+     * deadline-ms가 없으면 이전 설정(timeout, 초)을 이어서 사용
+     */
+    @SuppressWarnings("deprecation")
+    public long getDeadlineMs() {
+        if (deadlineMs != null) {
+            return deadlineMs;
+        }
+        return timeout != null ? timeout * 1000 : DEFAULT_DEADLINE_MS;
+    }
+    
+    @Data
+    public static class Pool {
+        private int maxConnections = 50;
+        private long pendingAcquireTimeoutMs = 2000;
+        private long maxIdleTimeMs = 4000;
+    }
+    
+    @Data
+    public static class CircuitBreaker {
+        private int windowSize = 20; // 최근 호출 수 기준 슬라이딩 윈도우
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 50; // %
+        private long openDurationMs = 10000;
+        private int halfOpenPermits = 2; // half-open 상태에서 허용할 탐색 호출 수
+    }
+    
+    @Data
+    public static class Hedging {
+        private boolean enabled = false;
+        private double percentile = 0.95; // 이 백분위 지연 후 두 번째 요청 발사
+        private long initialDelayMs = 1000; // 표본이 부족할 때 사용할 지연
+        private long minDelayMs = 50;
+        private int minSamples = 20;
+    }
+}
@@ -1,22 +1,42 @@
 package com.example.user.controller;
 
 import com.example.user.dto.ApiResponse;
+import com.example.user.dto.AvailabilityCheckRequest;
+import com.example.user.dto.AvailabilityCheckResponse;
+import com.example.user.dto.NicknameBatchGenerateRequest;
+import com.example.user.dto.NicknameBatchGenerateResponse;
 import com.example.user.dto.NicknameGenerateRequest;
 import com.example.user.dto.NicknameGenerateResponse;
+import com.example.user.dto.UserBatchCreateRequest;
+import com.example.user.dto.UserBatchCreateResponse;
+import com.example.user.dto.UserBulkDeleteRequest;
+import com.example.user.dto.UserBulkDeleteResponse;
 import com.example.user.dto.UserCreateRequest;
 import com.example.user.dto.UserLoginRequest;
+import com.example.user.dto.UserLoginResponse;
 import com.example.user.dto.UserLogoutRequest;
+import com.example.user.dto.UserPageResponse;
 import com.example.user.dto.UserResponse;
+import com.example.user.exception.LoginThrottledException;
+import com.example.user.exception.ServiceBusyException;
+import com.example.user.security.SessionTokenService;
 import com.example.user.service.NicknameService;
 import com.example.user.service.UserService;
 
-import java.util.List;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/users")
@@ -28,14 +48,20 @@ public class UserController {
     private final NicknameService nicknameService;
     
     /**
-     * 모든 사용자 조회
-     * GET /users
+     * 사용자 목록 조회 (커서 기반 페이지네이션)
+     * GET /users?cursor={nextCursor}&size={size}
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
+    public ResponseEntity<ApiResponse<UserPageResponse>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         try {
-            List<UserResponse> users = userService.getAllUsers();
-            return ResponseEntity.ok(ApiResponse.success("모든 사용자 조회 성공", users));
+            UserPageResponse page = userService.getUsers(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("사용자 목록 조회 성공", page));
+        } catch (IllegalArgumentException e) {
+            log.warn("사용자 목록 조회 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("모든 사용자 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -43,6 +69,30 @@ public class UserController {
         }
     }
     
+    /**
+     * 전체 사용자 내보내기 (NDJSON 스트리밍)
+     * GET /users/export
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try {
+            long count = userService.exportUsers(response.getOutputStream());
+            log.info("사용자 내보내기 완료: {}건", count);
+        } catch (Exception e) {
+            if (!response.isCommitted()) {
+                log.error("사용자 내보내기 중 오류 발생", e);
+                response.sendError(HttpStatus.INTERNAL_SERVER_ERROR.value(), "서버 오류가 발생했습니다");
+                return;
+            }
+            // 이미 일부를 전송해 상태 코드를 바꿀 수 없으므로 예외를 다시 던져 컨테이너가 연결을 끊게 함
+            // (마지막 chunk 없이 끊기므로 클라이언트는 잘린 파일을 완료된 응답으로 오인하지 않음)
+            log.error("사용자 내보내기 중 오류 발생, 연결 종료 (응답 일부 전송됨)", e);
+            throw e;
+        }
+    }
+    
     /**
      * 사용자 등록
      * POST /users
@@ -53,6 +103,9 @@ public class UserController {
             UserResponse userResponse = userService.createUser(request);
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("사용자가 성공적으로 등록되었습니다", userResponse));
+        } catch (ServiceBusyException e) {
+            log.warn("사용자 등록 거절: {}", e.getMessage());
+            return serviceUnavailable(e);
         } catch (IllegalArgumentException e) {
             log.warn("사용자 등록 실패: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -64,6 +117,88 @@ public class UserController {
         }
     }
     
+    /**
+     * 사용자 일괄 등록
+     * POST /users/batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<UserBatchCreateResponse>> createUsers(
+            @Valid @RequestBody UserBatchCreateRequest request) {
+        try {
+            UserBatchCreateResponse response = userService.createUsers(request.getUsers());
+            return ResponseEntity.ok(ApiResponse.success("사용자 일괄 등록이 처리되었습니다", response));
+        } catch (ServiceBusyException e) {
+            log.warn("사용자 일괄 등록 거절: {}", e.getMessage());
+            return serviceUnavailable(e);
+        } catch (Exception e) {
+            log.error("사용자 일괄 등록 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("서버 오류가 발생했습니다"));
+        }
+    }
+    
+    /**
+     * 사용자 일괄 삭제 (계정 정리 작업용)
+     * POST /users/batch-delete
+     */
+    @PostMapping("/batch-delete")
+    public ResponseEntity<ApiResponse<UserBulkDeleteResponse>> deleteUsers(
+            @Valid @RequestBody UserBulkDeleteRequest request) {
+        try {
+            UserBulkDeleteResponse response = userService.deleteUsers(request.getUserIds());
+            return ResponseEntity.ok(ApiResponse.success("사용자 일괄 삭제가 처리되었습니다", response));
+        } catch (IllegalArgumentException e) {
+            log.warn("사용자 일괄 삭제 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("사용자 일괄 삭제 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("서버 오류가 발생했습니다"));
+        }
+    }
+    
+    /**
+     * 닉네임/사용자 ID 사용 가능 여부 일괄 확인
+     * POST /users/availability
+     */
+    @PostMapping("/availability")
+    public ResponseEntity<ApiResponse<AvailabilityCheckResponse>> checkAvailability(
+            @Valid @RequestBody AvailabilityCheckRequest request) {
+        try {
+            AvailabilityCheckResponse response = userService.checkAvailability(request);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            log.warn("사용 가능 여부 확인 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("사용 가능 여부 확인 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("서버 오류가 발생했습니다"));
+        }
+    }
+    
+    /**
+     * 세션 토큰으로 인증된 현재 사용자 조회
+     * GET /users/me (Authorization: Bearer 토큰 필요, 없거나 유효하지 않으면 401)
+     */
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<UserResponse>> getCurrentUser(@AuthenticationPrincipal String userId) {
+        try {
+            UserResponse userResponse = userService.getUser(userId);
+            return ResponseEntity.ok(ApiResponse.success(userResponse));
+        } catch (IllegalArgumentException e) {
+            log.warn("현재 사용자 조회 실패: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("현재 사용자 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("서버 오류가 발생했습니다"));
+        }
+    }
+    
     /**
      * 사용자 조회
      * GET /users/{user_id}
@@ -109,10 +244,19 @@ public class UserController {
      * POST /users/login
      */
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<UserResponse>> login(@Valid @RequestBody UserLoginRequest request) {
+    public ResponseEntity<ApiResponse<UserLoginResponse>> login(@Valid @RequestBody UserLoginRequest request,
+                                                                HttpServletRequest httpRequest) {
         try {
-            UserResponse userResponse = userService.login(request);
-            return ResponseEntity.ok(ApiResponse.success("로그인이 성공했습니다", userResponse));
+            // 프록시 뒤에서는 server.forward-headers-strategy 설정에 따라 X-Forwarded-For 값이 반영됨
+            UserLoginResponse loginResponse = userService.login(request, httpRequest.getRemoteAddr());
+            return ResponseEntity.ok(ApiResponse.success("로그인이 성공했습니다", loginResponse));
+        } catch (LoginThrottledException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (ServiceBusyException e) {
+            log.warn("로그인 거절: {}", e.getMessage());
+            return serviceUnavailable(e);
         } catch (IllegalArgumentException e) {
             log.warn("로그인 실패: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -127,12 +271,19 @@ public class UserController {
     /**
      * 로그아웃
      * POST /users/logout
+     * Authorization: Bearer 토큰을 함께 보내면 해당 토큰을 폐기
      */
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestBody UserLogoutRequest request) {
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @Valid @RequestBody UserLogoutRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         try {
-            userService.logout(request.getUserId());
+            userService.logout(request.getUserId(), SessionTokenService.bearerToken(authorization).orElse(null));
             return ResponseEntity.ok(ApiResponse.success("로그아웃이 성공했습니다", null));
+        } catch (IllegalArgumentException e) {
+            log.warn("로그아웃 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("로그아웃 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -143,18 +294,49 @@ public class UserController {
     /**
      * 닉네임 생성 (단일 닉네임 재시도 방식)
      * POST /users/nickname/generate
+     * Python 서비스 응답을 기다리는 동안 Tomcat 스레드를 점유하지 않도록 Mono로 반환
      */
     @PostMapping("/nickname/generate")
-    public ResponseEntity<ApiResponse<NicknameGenerateResponse>> generateNickname(
+    public Mono<ResponseEntity<ApiResponse<NicknameGenerateResponse>>> generateNickname(
             @Valid @RequestBody NicknameGenerateRequest request) {
-        try {
-            NicknameGenerateResponse response = nicknameService.generateNickname(request);
-            return ResponseEntity.ok(ApiResponse.success("닉네임이 생성되었습니다", response));
-        } catch (Exception e) {
-            log.error("닉네임 생성 중 오류 발생", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.error("닉네임 생성 중 오류가 발생했습니다"));
-        }
+        return nicknameService.generateNickname(request)
+                .map(response -> ResponseEntity.ok(ApiResponse.success("닉네임이 생성되었습니다", response)))
+                .onErrorResume(ServiceBusyException.class, e -> {
+                    log.warn("닉네임 생성 거절: {}", e.getMessage());
+                    return Mono.just(this.<NicknameGenerateResponse>serviceUnavailable(e));
+                })
+                .onErrorResume(e -> {
+                    log.error("닉네임 생성 중 오류 발생", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(ApiResponse.<NicknameGenerateResponse>error("닉네임 생성 중 오류가 발생했습니다")));
+                });
+    }
+    
+    /**
+     * 닉네임 후보 일괄 생성
+     * POST /users/nickname/generate-batch
+     * 후보를 병렬로 생성하고 deadline 안에 얻은 사용 가능한 닉네임만 반환 (요청 개수보다 적을 수 있음)
+     */
+    @PostMapping("/nickname/generate-batch")
+    public Mono<ResponseEntity<ApiResponse<NicknameBatchGenerateResponse>>> generateNicknames(
+            @Valid @RequestBody NicknameBatchGenerateRequest request) {
+        return nicknameService.generateNicknames(request)
+                .map(response -> ResponseEntity.ok(ApiResponse.success(
+                        String.format("닉네임 %d개가 생성되었습니다", response.getGenerated()), response)))
+                .onErrorResume(e -> {
+                    log.error("닉네임 일괄 생성 중 오류 발생", e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(ApiResponse.<NicknameBatchGenerateResponse>error("닉네임 생성 중 오류가 발생했습니다")));
+                });
+    }
+    
+    /**
+     * 처리 자원 포화 시 503 + Retry-After 응답
+     */
+    private <T> ResponseEntity<ApiResponse<T>> serviceUnavailable(ServiceBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getMessage()));
     }
     
 }
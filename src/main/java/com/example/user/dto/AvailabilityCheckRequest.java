@@ -0,0 +1,23 @@
+package com.example.user.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityCheckRequest {
+    
+    // 둘 중 하나 이상은 있어야 함 (서비스에서 확인)
+    @Size(max = 200, message = "닉네임은 한 번에 최대 200개까지 확인할 수 있습니다")
+    private List<String> nicknames;
+    
+    @Size(max = 200, message = "사용자 ID는 한 번에 최대 200개까지 확인할 수 있습니다")
+    private List<String> userIds;
+}
@@ -0,0 +1,18 @@
+package com.example.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityCheckResponse {
+    
+    private Map<String, Boolean> nicknames; // 닉네임 -> 사용 가능 여부 (요청 순서 유지)
+    private Map<String, Boolean> userIds;   // 사용자 ID -> 사용 가능 여부 (요청 순서 유지)
+}
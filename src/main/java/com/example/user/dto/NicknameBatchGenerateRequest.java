@@ -0,0 +1,32 @@
+package com.example.user.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class NicknameBatchGenerateRequest {
+    
+    @NotBlank(message = "사용자명은 필수입니다")
+    @Size(max = 50, message = "사용자명은 50자를 초과할 수 없습니다")
+    private String username;
+    
+    @Size(max = 200, message = "관심사는 200자를 초과할 수 없습니다")
+    private String interests; // 관심사 (예: "게임, 스포츠, 음악")
+    
+    @Min(value = 1, message = "생성 개수는 1개 이상이어야 합니다")
+    @Max(value = 10, message = "한 번에 최대 10개까지 생성할 수 있습니다")
+    private int count = 5;
+    
+    /**
+     * 후보 하나를 생성할 때 사용하는 단일 요청
+     */
+    public NicknameGenerateRequest toSingleRequest() {
+        NicknameGenerateRequest request = new NicknameGenerateRequest();
+        request.setUsername(username);
+        request.setInterests(interests);
+        return request;
+    }
+}
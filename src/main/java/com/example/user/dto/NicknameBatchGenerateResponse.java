@@ -0,0 +1,29 @@
+package com.example.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NicknameBatchGenerateResponse {
+    
+    private int requested;
+    private int generated;
+    private boolean partial; // deadline 안에 요청한 개수를 채우지 못한 경우 true
+    private List<NicknameGenerateResponse> nicknames; // 사용 가능한 닉네임만 포함
+    
+    public static NicknameBatchGenerateResponse of(int requested, List<NicknameGenerateResponse> nicknames) {
+        return NicknameBatchGenerateResponse.builder()
+                .requested(requested)
+                .generated(nicknames.size())
+                .partial(nicknames.size() < requested)
+                .nicknames(nicknames)
+                .build();
+    }
+}
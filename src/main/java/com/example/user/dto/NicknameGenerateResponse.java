@@ -1,11 +1,22 @@
 package com.example.user.dto;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
 @Data
-@AllArgsConstructor
 public class NicknameGenerateResponse {
     private String nickname;
     private boolean isAvailable; // 사용 가능 여부
+    
+    /**
+     * Python 서비스 응답(is_available)과 이 서비스 응답(available) 모두에서 역직렬화 가능
+     */
+    @JsonCreator
+    public NicknameGenerateResponse(@JsonProperty("nickname") String nickname,
+                                    @JsonProperty("is_available") @JsonAlias("available") boolean isAvailable) {
+        this.nickname = nickname;
+        this.isAvailable = isAvailable;
+    }
 }
@@ -0,0 +1,22 @@
+package com.example.user.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchCreateRequest {
+    
+    // 개별 항목 검증은 항목별 결과로 보고하기 위해 서비스에서 수행
+    @NotEmpty(message = "등록할 사용자 목록은 필수입니다")
+    @Size(max = 500, message = "한 번에 최대 500명까지 등록할 수 있습니다")
+    private List<UserCreateRequest> users;
+}
@@ -0,0 +1,62 @@
+package com.example.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBatchCreateResponse {
+    
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<Item> results; // 요청 순서와 동일
+    
+    public static UserBatchCreateResponse of(List<Item> results) {
+        int succeeded = (int) results.stream().filter(Item::isSuccess).count();
+        return UserBatchCreateResponse.builder()
+                .total(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+    
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        
+        private int index;
+        private String userId;
+        private boolean success;
+        private String message;
+        private UserResponse user;
+        
+        public static Item success(int index, UserResponse user) {
+            return Item.builder()
+                    .index(index)
+                    .userId(user.getUserId())
+                    .success(true)
+                    .message("등록 성공")
+                    .user(user)
+                    .build();
+        }
+        
+        public static Item failure(int index, String userId, String message) {
+            return Item.builder()
+                    .index(index)
+                    .userId(userId)
+                    .success(false)
+                    .message(message)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.user.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkDeleteRequest {
+    
+    @NotEmpty(message = "삭제할 사용자 ID 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000명까지 삭제할 수 있습니다")
+    private List<String> userIds;
+}
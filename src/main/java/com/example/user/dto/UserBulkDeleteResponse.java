@@ -0,0 +1,19 @@
+package com.example.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkDeleteResponse {
+    
+    private int requested;
+    private int deleted;
+    private List<String> notFound; // 존재하지 않아 삭제되지 않은 사용자 ID
+}
@@ -0,0 +1,37 @@
+package com.example.user.dto;
+
+import com.example.user.security.SessionTokenService;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그인 응답 (기존 사용자 정보 필드 + 세션 토큰)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserLoginResponse {
+    
+    private String userId;
+    private Boolean isAdmin;
+    private String username;
+    private String nickname;
+    private String accessToken; // Authorization: Bearer {accessToken}
+    private String tokenType;
+    private long expiresIn; // 초
+    
+    public static UserLoginResponse of(UserResponse user, SessionTokenService.IssuedToken token) {
+        return UserLoginResponse.builder()
+                .userId(user.getUserId())
+                .isAdmin(user.getIsAdmin())
+                .username(user.getUsername())
+                .nickname(user.getNickname())
+                .accessToken(token.value())
+                .tokenType(token.tokenType())
+                .expiresIn(token.expiresInSeconds())
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 인증 관련 감사 이벤트 (로그인/로그아웃/등록/삭제)
+ * 요청 처리 중에는 메모리 버퍼에만 넣고 AuditLogger가 모아서 한 번에 INSERT한다.
+ */
+@Entity
+@Table(name = "audit_events", indexes = {
+        @Index(name = "idx_audit_events_user_id", columnList = "user_id, occurred_at"),
+        @Index(name = "idx_audit_events_occurred_at", columnList = "occurred_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEvent {
+    
+    public static final int USER_ID_LENGTH = 100;
+    public static final int CLIENT_IP_LENGTH = 45;
+    public static final int DETAIL_LENGTH = 200;
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 30, nullable = false)
+    private EventType eventType;
+    
+    @Column(name = "user_id", length = USER_ID_LENGTH)
+    private String userId;
+    
+    @Column(name = "client_ip", length = CLIENT_IP_LENGTH)
+    private String clientIp;
+    
+    @Column(name = "detail", length = DETAIL_LENGTH)
+    private String detail;
+    
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+    
+    public enum EventType {
+        LOGIN_SUCCEEDED,
+        LOGIN_FAILED,
+        LOGIN_THROTTLED,
+        LOGOUT,
+        USER_CREATED,
+        USER_DELETED
+    }
+    
+    /**
+     * 요청 값은 길이 검증 없이 들어올 수 있으므로(예: 로그인 userId) 컬럼 길이에 맞춰 자름
+     * 한 건이 길이 초과로 INSERT에 실패해 같은 배치 전체가 실패하지 않도록 함
+     */
+    public static AuditEvent of(EventType eventType, String userId, String clientIp, String detail) {
+        return AuditEvent.builder()
+                .eventType(eventType)
+                .userId(truncate(userId, USER_ID_LENGTH))
+                .clientIp(truncate(clientIp, CLIENT_IP_LENGTH))
+                .detail(truncate(detail, DETAIL_LENGTH))
+                .occurredAt(Instant.now())
+                .build();
+    }
+    
+    public static AuditEvent of(EventType eventType, String userId) {
+        return of(eventType, userId, null, null);
+    }
+    
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+}
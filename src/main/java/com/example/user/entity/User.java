@@ -1,25 +1,26 @@
 package com.example.user.entity;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        uniqueConstraints = @UniqueConstraint(name = User.NICKNAME_UNIQUE_CONSTRAINT, columnNames = "nickname"))
 @Getter
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
-public class User {
+public class User implements Persistable<String> {
+    
+    // INV-U003: 닉네임 유일성은 DB 제약으로 보장 (중복 등록 시 오류 구분에 사용)
+    public static final String NICKNAME_UNIQUE_CONSTRAINT = "uk_users_nickname";
     
     @Id
     @Column(name = "user_id", length = 100)
     private String userId;
     
     @Column(name = "is_admin", nullable = false)
-    @Builder.Default
     private Boolean isAdmin = false;
     
     @Column(name = "username", length = 50, nullable = false)
@@ -30,4 +31,39 @@ public class User {
     
     @Column(name = "password", length = 255, nullable = false)
     private String password;
+    
+    /**
+     * 할당형 ID라 기본 판정으로는 항상 기존 엔티티로 취급되어 save() 시 merge(선조회)가 일어나므로
+     * 조회되거나 저장된 적이 없는 엔티티는 새 엔티티로 판정하여 바로 INSERT
+     */
+    @Transient
+    private boolean persisted;
+    
+    /**
+     * persisted는 JPA 콜백으로만 설정되도록 빌더/생성자 인자에서 제외
+     */
+    @Builder
+    private User(String userId, Boolean isAdmin, String username, String nickname, String password) {
+        this.userId = userId;
+        this.isAdmin = isAdmin != null ? isAdmin : false;
+        this.username = username;
+        this.nickname = nickname;
+        this.password = password;
+    }
+    
+    @Override
+    public String getId() {
+        return userId;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
@@ -0,0 +1,62 @@
+package com.example.user.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 사용자 변경 로그 (인스턴스 간 로컬 캐시 무효화용 outbox)
+ * 사용자 등록/삭제와 같은 트랜잭션에서 기록되며 각 인스턴스가 seq 순으로 읽어 캐시를 정리한다.
+ */
+@Entity
+@Table(name = "user_changes", indexes = @Index(name = "idx_user_changes_created_at", columnList = "created_at"))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChange {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq")
+    private Long seq;
+    
+    @Column(name = "user_id", length = 100, nullable = false)
+    private String userId;
+    
+    @Column(name = "nickname", length = 50)
+    private String nickname;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", length = 20, nullable = false)
+    private ChangeType changeType;
+    
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    
+    public enum ChangeType {
+        CREATED,
+        DELETED
+    }
+    
+    public static UserChange created(User user) {
+        return UserChange.builder()
+                .userId(user.getUserId())
+                .nickname(user.getNickname())
+                .changeType(ChangeType.CREATED)
+                .createdAt(Instant.now())
+                .build();
+    }
+    
+    public static UserChange deleted(String userId) {
+        return UserChange.builder()
+                .userId(userId)
+                .changeType(ChangeType.DELETED)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
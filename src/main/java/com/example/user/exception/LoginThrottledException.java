@@ -0,0 +1,17 @@
+package com.example.user.exception;
+
+import lombok.Getter;
+
+/**
+ * 같은 계정/IP의 로그인 시도가 허용량을 넘어 거절할 때 사용 (429 + Retry-After)
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
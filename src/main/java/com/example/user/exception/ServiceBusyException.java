@@ -0,0 +1,17 @@
+package com.example.user.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 자원이 포화되어 요청을 즉시 거절할 때 사용 (503 + Retry-After)
+ */
+@Getter
+public class ServiceBusyException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.user.repository;
+
+import com.example.user.entity.UserChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface UserChangeRepository extends JpaRepository<UserChange, Long> {
+    
+    /**
+     * 주어진 seq 이후의 변경 로그 조회
+     * @param seq 마지막으로 처리한 seq
+     * @param limit 조회할 최대 건수
+     * @return seq 오름차순 변경 로그
+     */
+    List<UserChange> findBySeqGreaterThanOrderBySeqAsc(long seq, Limit limit);
+    
+    /**
+     * 현재 최대 seq 조회
+     * @return 최대 seq (없으면 0)
+     */
+    @Query("select coalesce(max(c.seq), 0) from UserChange c")
+    long findMaxSeq();
+    
+    /**
+     * 보존 기간이 지난 변경 로그 삭제
+     * @param cutoff 이 시각 이전의 로그 삭제
+     * @return 삭제된 건수
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from UserChange c where c.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
@@ -1,10 +1,22 @@
 package com.example.user.repository;
 
+import com.example.user.dto.UserResponse;
 import com.example.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
@@ -23,6 +35,24 @@ public interface UserRepository extends JpaRepository<User, String> {
      */
     boolean existsByUserId(String userId);
     
+    /**
+     * 사용자 삭제 (엔티티 조회 없이 DELETE 한 문장)
+     * @param userId 사용자 ID (이메일)
+     * @return 삭제된 행 수 (없으면 0)
+     */
+    @Modifying
+    @Query("delete from User u where u.userId = :userId")
+    int deleteByUserIdInBulk(@Param("userId") String userId);
+    
+    /**
+     * 여러 사용자 삭제 (엔티티 조회 없이 DELETE 한 문장)
+     * @param userIds 사용자 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from User u where u.userId in :userIds")
+    int deleteAllByUserIdInBulk(@Param("userIds") Collection<String> userIds);
+    
     /**
      * 닉네임으로 사용자 조회
      * @param nickname 닉네임
@@ -36,4 +66,81 @@ public interface UserRepository extends JpaRepository<User, String> {
      * @return 존재 여부
      */
     boolean existsByNickname(String nickname);
+    
+    /**
+     * 닉네임을 사용 중인 사용자 ID 조회
+     * @param nickname 닉네임
+     * @return 사용자 ID 목록 (없으면 빈 목록)
+     */
+    @Query("select u.userId from User u where u.nickname = :nickname")
+    List<String> findUserIdsByNickname(@Param("nickname") String nickname);
+    
+    /**
+     * 주어진 사용자 ID 중 이미 존재하는 ID 조회
+     * @param userIds 사용자 ID 목록
+     * @return 존재하는 사용자 ID 집합
+     */
+    @Query("select u.userId from User u where u.userId in :userIds")
+    Set<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+    
+    /**
+     * 주어진 닉네임 중 이미 사용 중인 닉네임 조회
+     * @param nicknames 닉네임 목록
+     * @return 사용 중인 닉네임 집합
+     */
+    @Query("select u.nickname from User u where u.nickname in :nicknames")
+    Set<String> findExistingNicknames(@Param("nicknames") Collection<String> nicknames);
+    
+    /**
+     * 사용자 응답 조회 (비밀번호 제외 컬럼만 조회, 영속성 컨텍스트에 올리지 않음)
+     * @param userId 사용자 ID (이메일)
+     * @return 사용자 응답
+     */
+    @Query("select new com.example.user.dto.UserResponse(u.userId, u.isAdmin, u.username, u.nickname) "
+            + "from User u where u.userId = :userId")
+    Optional<UserResponse> findResponseByUserId(@Param("userId") String userId);
+    
+    /**
+     * 첫 페이지 조회 (user_id 오름차순, 비밀번호 제외)
+     * @param limit 조회할 최대 건수
+     * @return 사용자 응답 목록
+     */
+    @Query("select new com.example.user.dto.UserResponse(u.userId, u.isAdmin, u.username, u.nickname) "
+            + "from User u order by u.userId")
+    List<UserResponse> findResponsesOrderByUserId(Limit limit);
+    
+    /**
+     * 커서 이후 페이지 조회 (user_id 기준 keyset 페이지네이션, 비밀번호 제외)
+     * @param userId 이전 페이지의 마지막 사용자 ID
+     * @param limit 조회할 최대 건수
+     * @return 사용자 응답 목록
+     */
+    @Query("select new com.example.user.dto.UserResponse(u.userId, u.isAdmin, u.username, u.nickname) "
+            + "from User u where u.userId > :userId order by u.userId")
+    List<UserResponse> findResponsesAfterOrderByUserId(@Param("userId") String userId, Limit limit);
+    
+    /**
+     * 전체 사용자 스트리밍 조회 (forward-only 커서, 고정 fetch size, 비밀번호 제외)
+     * 반드시 트랜잭션 안에서 사용하고 스트림을 닫아야 함
+     * @return 사용자 응답 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new com.example.user.dto.UserResponse(u.userId, u.isAdmin, u.username, u.nickname) "
+            + "from User u order by u.userId")
+    Stream<UserResponse> streamAllResponsesOrderByUserId();
+    
+    /**
+     * 전체 닉네임 스트리밍 조회 (닉네임 인덱스 적재용)
+     * 반드시 트랜잭션 안에서 사용하고 스트림을 닫아야 함
+     * @return 닉네임 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select u.nickname from User u")
+    Stream<String> streamAllNicknames();
 }
@@ -0,0 +1,142 @@
+package com.example.user.security;
+
+import com.example.user.exception.LoginThrottledException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 계정/클라이언트 IP별 로그인 시도 제한 (토큰 버킷)
+ * 자격 증명 대입 공격이 그대로 BCrypt 검증으로 이어져 CPU를 포화시키지 않도록 DB 조회/해시 검증 전에 확인한다.
+ *
+ * 버킷 상태는 GCRA 방식으로 "다음 토큰이 채워질 이론상 시각" 하나만 AtomicLong에 두고 CAS로 갱신하므로 락이 없다.
+ * 버킷 맵은 Caffeine(분할된 ConcurrentHashMap)이 관리하며, 일정 시간 쓰이지 않은 버킷은 제거해 메모리를 제한한다.
+ * (유휴 시간이 버킷을 가득 채우는 시간보다 길면 제거해도 결과가 같음)
+ */
+@Component
+@Slf4j
+public class LoginRateLimiter {
+    
+    private final boolean enabled;
+    private final Limit userLimit;
+    private final Limit ipLimit;
+    private final Cache<String, Bucket> userBuckets;
+    private final Cache<String, Bucket> ipBuckets;
+    private final Counter userThrottledCounter;
+    private final Counter ipThrottledCounter;
+    
+    public LoginRateLimiter(@Value("${login.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${login.rate-limit.user.capacity:5}") int userCapacity,
+                            @Value("${login.rate-limit.user.refill-period:1m}") Duration userRefillPeriod,
+                            @Value("${login.rate-limit.ip.capacity:30}") int ipCapacity,
+                            @Value("${login.rate-limit.ip.refill-period:6s}") Duration ipRefillPeriod,
+                            @Value("${login.rate-limit.idle-timeout:15m}") Duration idleTimeout,
+                            @Value("${login.rate-limit.max-keys:100000}") long maxKeys,
+                            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.userLimit = new Limit(userCapacity, userRefillPeriod);
+        this.ipLimit = new Limit(ipCapacity, ipRefillPeriod);
+        this.userBuckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.userThrottledCounter = Counter.builder("login.throttled").tag("key", "user").register(meterRegistry);
+        this.ipThrottledCounter = Counter.builder("login.throttled").tag("key", "ip").register(meterRegistry);
+        Gauge.builder("login.rate-limit.buckets", userBuckets, Cache::estimatedSize).tag("key", "user").register(meterRegistry);
+        Gauge.builder("login.rate-limit.buckets", ipBuckets, Cache::estimatedSize).tag("key", "ip").register(meterRegistry);
+        
+        log.info("로그인 시도 제한 설정 - enabled: {}, user: {}회/{}당 1회 충전, ip: {}회/{}당 1회 충전, idleTimeout: {}",
+                enabled, userCapacity, userRefillPeriod, ipCapacity, ipRefillPeriod, idleTimeout);
+    }
+    
+    /**
+     * 로그인 시도 1회를 차감하고, 허용량을 넘었으면 거절
+     * IP를 먼저 확인해 여러 계정을 번갈아 시도하는 경우도 막는다.
+     * @param userId 로그인 요청한 사용자 ID
+     * @param clientIp 클라이언트 IP (null이면 IP 제한 생략)
+     * @throws LoginThrottledException 허용량 초과 시
+     */
+    public void acquire(String userId, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (clientIp != null) {
+            long waitNanos = ipBuckets.get(clientIp, key -> new Bucket(now)).tryAcquire(ipLimit, now);
+            if (waitNanos > 0) {
+                ipThrottledCounter.increment();
+                log.warn("로그인 시도 제한 (IP) - ip: {}", clientIp);
+                throw new LoginThrottledException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요", toRetryAfterSeconds(waitNanos));
+            }
+        }
+        if (userId != null) {
+            // DB 콜레이션이 대소문자를 구분하지 않으므로 같은 계정은 같은 버킷으로
+            String key = userId.toLowerCase(Locale.ROOT);
+            long waitNanos = userBuckets.get(key, k -> new Bucket(now)).tryAcquire(userLimit, now);
+            if (waitNanos > 0) {
+                userThrottledCounter.increment();
+                log.warn("로그인 시도 제한 (계정) - userId: {}", userId);
+                throw new LoginThrottledException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요", toRetryAfterSeconds(waitNanos));
+            }
+        }
+    }
+    
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+    
+    /**
+     * 버킷 크기와 충전 간격
+     * @param intervalNanos 토큰 1개가 충전되는 간격
+     * @param toleranceNanos 연속으로 허용하는 양 (capacity - 1개 분량)
+     */
+    private record Limit(long intervalNanos, long toleranceNanos) {
+        
+        Limit(int capacity, Duration refillPeriod) {
+            this(refillPeriod.toNanos(), refillPeriod.toNanos() * (Math.max(1, capacity) - 1));
+        }
+    }
+    
+    /**
+     * GCRA 버킷: theoreticalArrival이 now + tolerance 이내면 허용하고 간격만큼 뒤로 민다
+     */
+    private static final class Bucket {
+        
+        private final AtomicLong theoreticalArrival;
+        
+        Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+        
+        /**
+         * @return 허용 시 0, 거절 시 다음 시도까지 기다려야 하는 시간(ns)
+         */
+        long tryAcquire(Limit limit, long now) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long base = current - now > 0 ? current : now; // nanoTime은 비교 시 차이로 계산
+                long wait = base - limit.toleranceNanos() - now;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (theoreticalArrival.compareAndSet(current, base + limit.intervalNanos())) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
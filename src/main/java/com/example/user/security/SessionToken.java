@@ -0,0 +1,12 @@
+package com.example.user.security;
+
+/**
+ * 검증을 마친 세션 토큰의 내용
+ * @param tokenId 토큰 ID (로그아웃 시 폐기 대상 식별)
+ * @param userId 사용자 ID
+ * @param admin 관리자 여부
+ * @param issuedAtMillis 발급 시각 (epoch millis)
+ * @param expiresAtMillis 만료 시각 (epoch millis)
+ */
+public record SessionToken(String tokenId, String userId, boolean admin, long issuedAtMillis, long expiresAtMillis) {
+}
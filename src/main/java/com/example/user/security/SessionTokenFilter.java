@@ -0,0 +1,40 @@
+package com.example.user.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authorization: Bearer 세션 토큰으로 요청을 인증하는 필터
+ * 서명/만료/폐기 여부만 메모리에서 확인하며 DB 조회나 BCrypt 검증을 하지 않는다.
+ * 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘기고, 접근 허용 여부는 SecurityConfig 규칙이 결정한다.
+ */
+@RequiredArgsConstructor
+public class SessionTokenFilter extends OncePerRequestFilter {
+    
+    private final SessionTokenService sessionTokenService;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SessionTokenService.bearerToken(request.getHeader(HttpHeaders.AUTHORIZATION))
+                .flatMap(sessionTokenService::verify)
+                .ifPresent(token -> {
+                    UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                            token.userId(), null,
+                            AuthorityUtils.createAuthorityList(token.admin() ? "ROLE_ADMIN" : "ROLE_USER"));
+                    authentication.setDetails(token);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                });
+        filterChain.doFilter(request, response);
+    }
+}
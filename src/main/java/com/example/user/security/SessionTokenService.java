@@ -0,0 +1,211 @@
+package com.example.user.security;
+
+import com.example.user.dto.UserResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HMAC 서명 세션 토큰 발급/검증
+ * 토큰은 "base64url(내용).base64url(HMAC-SHA256(내용))" 형태이며, DB 조회나 BCrypt 없이 서명과 만료만으로 검증한다.
+ * - 로그아웃한 토큰 ID는 토큰 만료 시각까지만 메모리에 보관(폐기 목록)
+ * - 삭제된 사용자는 삭제 시각 이전에 발급된 토큰을 모두 거부
+ * 폐기 목록은 인스턴스별이므로 여러 인스턴스에서는 같은 secret을 설정해야 하고, 로그아웃은 요청을 받은 인스턴스에만 반영된다.
+ */
+@Component
+@Slf4j
+public class SessionTokenService {
+    
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String TOKEN_TYPE = "Bearer";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    
+    private final SecretKeySpec signingKey;
+    private final Duration ttl;
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, Long> revokedTokens;
+    private final Cache<String, Long> revokedUsers;
+    private final Counter issuedCounter;
+    private final Counter rejectedCounter;
+    
+    public SessionTokenService(@Value("${session.token.secret:}") String secret,
+                               @Value("${session.token.ttl:1h}") Duration ttl,
+                               @Value("${session.token.revocation-max-size:1000000}") long revocationMaxSize,
+                               MeterRegistry meterRegistry) {
+        this.signingKey = new SecretKeySpec(resolveSecret(secret), HMAC_ALGORITHM);
+        this.ttl = ttl;
+        this.revokedTokens = Caffeine.newBuilder()
+                .maximumSize(revocationMaxSize)
+                .expireAfter(new UntilExpiry())
+                .recordStats()
+                .build();
+        this.revokedUsers = Caffeine.newBuilder()
+                .maximumSize(revocationMaxSize)
+                .expireAfterWrite(ttl) // 이후에는 삭제 전에 발급된 토큰이 모두 만료됨
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, revokedTokens, "session-token-revocation");
+        this.issuedCounter = Counter.builder("session.token.issued").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("session.token.rejected").register(meterRegistry);
+        
+        log.info("세션 토큰 설정 - ttl: {}, revocationMaxSize: {}", ttl, revocationMaxSize);
+    }
+    
+    /**
+     * 로그인한 사용자에게 토큰 발급
+     * @param user 사용자 정보
+     * @return 발급된 토큰
+     */
+    public IssuedToken issue(UserResponse user) {
+        byte[] id = new byte[12];
+        random.nextBytes(id);
+        long now = System.currentTimeMillis();
+        SessionToken token = new SessionToken(ENCODER.encodeToString(id), user.getUserId(),
+                Boolean.TRUE.equals(user.getIsAdmin()), now, now + ttl.toMillis());
+        
+        // 사용자 ID에 ':'가 있어도 되도록 마지막 필드로 둠
+        String claims = token.tokenId() + ":" + token.issuedAtMillis() + ":" + token.expiresAtMillis() + ":"
+                + (token.admin() ? 1 : 0) + ":" + token.userId();
+        byte[] payload = claims.getBytes(StandardCharsets.UTF_8);
+        issuedCounter.increment();
+        return new IssuedToken(ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(payload)),
+                TOKEN_TYPE, ttl.toSeconds(), token);
+    }
+    
+    /**
+     * 토큰 검증 (서명, 만료, 폐기 여부)
+     * @param value 토큰 문자열
+     * @return 유효하면 토큰 내용, 아니면 empty
+     */
+    public Optional<SessionToken> verify(String value) {
+        Optional<SessionToken> token = parse(value)
+                .filter(t -> t.expiresAtMillis() > System.currentTimeMillis())
+                .filter(t -> revokedTokens.getIfPresent(t.tokenId()) == null)
+                .filter(t -> {
+                    Long revokedAt = revokedUsers.getIfPresent(t.userId().toLowerCase(Locale.ROOT));
+                    return revokedAt == null || t.issuedAtMillis() > revokedAt;
+                });
+        if (token.isEmpty()) {
+            rejectedCounter.increment();
+        }
+        return token;
+    }
+    
+    /**
+     * 로그아웃한 토큰 폐기 (토큰 만료 시각까지 보관)
+     */
+    public void revoke(SessionToken token) {
+        revokedTokens.put(token.tokenId(), token.expiresAtMillis());
+    }
+    
+    /**
+     * 사용자 삭제 등으로 지금까지 발급된 해당 사용자의 토큰을 모두 폐기
+     * DB 콜레이션처럼 대소문자를 구분하지 않도록 소문자 키로 기록
+     */
+    public void revokeAllFor(String userId) {
+        revokedUsers.put(userId.toLowerCase(Locale.ROOT), System.currentTimeMillis());
+    }
+    
+    /**
+     * Authorization 헤더에서 Bearer 토큰 추출
+     */
+    public static Optional<String> bearerToken(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.regionMatches(true, 0, TOKEN_TYPE + " ", 0, 7)) {
+            return Optional.empty();
+        }
+        String value = authorizationHeader.substring(7).trim();
+        return value.isEmpty() ? Optional.empty() : Optional.of(value);
+    }
+    
+    private Optional<SessionToken> parse(String value) {
+        int dot = value.indexOf('.');
+        if (dot <= 0 || dot != value.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = DECODER.decode(value.substring(0, dot));
+            byte[] signature = DECODER.decode(value.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, sign(payload))) {
+                return Optional.empty();
+            }
+            String[] claims = new String(payload, StandardCharsets.UTF_8).split(":", 5);
+            if (claims.length != 5) {
+                return Optional.empty();
+            }
+            return Optional.of(new SessionToken(claims[0], claims[4], "1".equals(claims[3]),
+                    Long.parseLong(claims[1]), Long.parseLong(claims[2])));
+        } catch (IllegalArgumentException e) {
+            // Base64/숫자 형식 오류
+            return Optional.empty();
+        }
+    }
+    
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 계산에 실패했습니다", e);
+        }
+    }
+    
+    private static byte[] resolveSecret(String secret) {
+        if (secret == null || secret.isBlank()) {
+            log.warn("session.token.secret이 설정되지 않아 임의 키를 사용합니다. 재시작하거나 다른 인스턴스로 가면 토큰이 무효가 됩니다");
+            byte[] generated = new byte[32];
+            new SecureRandom().nextBytes(generated);
+            return generated;
+        }
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < 32) {
+            throw new IllegalStateException("session.token.secret은 32바이트 이상이어야 합니다");
+        }
+        return bytes;
+    }
+    
+    /**
+     * 발급된 토큰과 응답에 필요한 정보
+     */
+    public record IssuedToken(String value, String tokenType, long expiresInSeconds, SessionToken token) {
+    }
+    
+    /**
+     * 폐기 항목은 토큰 만료 시각까지만 보관 (값: 만료 시각 epoch millis)
+     */
+    private static class UntilExpiry implements Expiry<String, Long> {
+        
+        @Override
+        public long expireAfterCreate(String key, Long expiresAtMillis, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+        }
+        
+        @Override
+        public long expireAfterUpdate(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAtMillis, currentTime);
+        }
+        
+        @Override
+        public long expireAfterRead(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
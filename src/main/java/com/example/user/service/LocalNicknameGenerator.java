@@ -0,0 +1,181 @@
+package com.example.user.service;
+
+import com.example.user.cache.NicknameIndex;
+import com.example.user.util.NicknameUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 조합형 닉네임 생성기
+ * "형용사/동사 관형형 + 명사" 형태(예: 졸린고양이)로 닉네임을 만들고, 관심사 키워드가 있으면 관련 명사를 우선 뽑는다.
+ * 후보를 한 번에 여러 개 뽑아 NicknameIndex로 묶어서 사용 여부를 확인하며,
+ * 모두 사용 중이면 숫자 접미사를 붙여 조합 공간을 넓혀 다시 시도한다.
+ * LLM 경로가 내려갔거나 deadline을 넘겼을 때의 대체 수단, 또는 기본 생성 수단으로 쓴다.
+ */
+@Component
+@Slf4j
+public class LocalNicknameGenerator {
+    
+    private static final List<String> ADJECTIVES = List.of(
+            "행복한", "용감한", "반짝이는", "졸린", "신나는", "느긋한", "수줍은", "당당한",
+            "엉뚱한", "귀여운", "씩씩한", "조용한", "날쌘", "포근한", "상냥한", "명랑한",
+            "새침한", "든든한", "부지런한", "배고픈", "춤추는", "노래하는", "달리는", "꿈꾸는",
+            "웃는", "빛나는", "날아가는", "떠도는", "잠자는", "궁금한", "똑똑한", "재빠른",
+            "다정한", "심심한", "말랑한", "단단한", "푸른", "붉은", "하얀", "작은");
+    
+    private static final List<String> NOUNS = List.of(
+            "고양이", "강아지", "펭귄", "여우", "다람쥐", "호랑이", "토끼", "부엉이",
+            "고래", "판다", "수달", "너구리", "사자", "곰", "햄스터", "돌고래",
+            "참새", "까치", "거북이", "오리", "별", "구름", "바람", "달빛",
+            "햇살", "나무", "바다", "파도", "눈송이", "감자", "고구마", "만두",
+            "떡볶이", "쿠키", "푸딩", "모카", "라떼", "솜사탕", "도토리", "여행자");
+    
+    /**
+     * 관심사 테마 (키워드 별칭 -> 관련 명사)
+     */
+    private static final Map<String, List<String>> THEMED_NOUNS = buildThemes(List.of(
+            new Theme(List.of("게임", "game", "games", "gaming", "게이밍"),
+                    List.of("게이머", "용사", "마법사", "궁수", "전사", "힐러", "보스", "플레이어")),
+            new Theme(List.of("음악", "music", "노래", "밴드", "작곡"),
+                    List.of("기타리스트", "드러머", "피아니스트", "멜로디", "리듬", "가수", "음표", "작곡가")),
+            new Theme(List.of("스포츠", "sports", "sport", "운동", "축구", "농구", "야구", "헬스"),
+                    List.of("러너", "슈터", "골키퍼", "타자", "투수", "챔피언", "선수", "마라토너")),
+            new Theme(List.of("여행", "travel", "캠핑", "등산"),
+                    List.of("여행자", "탐험가", "나그네", "방랑자", "항해사", "등산가", "캠퍼", "배낭족")),
+            new Theme(List.of("요리", "cooking", "음식", "food", "베이킹", "맛집"),
+                    List.of("요리사", "셰프", "제빵사", "미식가", "파티시에", "바리스타", "만두", "쿠키")),
+            new Theme(List.of("독서", "책", "reading", "book", "books", "글쓰기"),
+                    List.of("책벌레", "작가", "독서가", "사서", "시인", "이야기꾼", "책갈피", "문장가")),
+            new Theme(List.of("영화", "movie", "movies", "드라마", "애니"),
+                    List.of("감독", "주인공", "관객", "배우", "평론가", "팝콘", "조연", "영사기")),
+            new Theme(List.of("코딩", "개발", "프로그래밍", "coding", "programming", "컴퓨터"),
+                    List.of("개발자", "코더", "버그헌터", "디버거", "알고리즘", "컴파일러", "프로그래머", "깃허브")),
+            new Theme(List.of("그림", "미술", "art", "drawing", "사진", "photo"),
+                    List.of("화가", "스케치", "물감", "사진가", "크레파스", "팔레트", "캔버스", "붓"))));
+    
+    private final NicknameIndex nicknameIndex;
+    private final long baseSeed;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter generatedCounter;
+    private final Counter exhaustedCounter;
+    
+    @Value("${nickname.local-generator.batch-size:8}")
+    private int batchSize;
+    
+    @Value("${nickname.local-generator.max-rounds:4}")
+    private int maxRounds;
+    
+    @Value("${nickname.local-generator.interest-weight:0.7}")
+    private double interestWeight;
+    
+    public LocalNicknameGenerator(NicknameIndex nicknameIndex,
+                                  @Value("${nickname.local-generator.seed:0}") long seed,
+                                  MeterRegistry meterRegistry) {
+        this.nicknameIndex = nicknameIndex;
+        // 0이면 기동마다 다른 순서, 지정하면 같은 순서로 후보를 뽑음 (재현/테스트용)
+        this.baseSeed = seed != 0 ? seed : System.nanoTime();
+        this.generatedCounter = Counter.builder("nickname.local.generated").register(meterRegistry);
+        this.exhaustedCounter = Counter.builder("nickname.local.exhausted").register(meterRegistry);
+    }
+    
+    /**
+     * 관심사에 맞는 사용 가능한 닉네임을 하나 생성합니다.
+     * 사용 여부 확인 과정에서 DB 조회가 일어날 수 있으므로 이벤트 루프에서 직접 호출하지 않습니다.
+     *
+     * @param interests 관심사 (null 가능)
+     * @return 사용 가능한 닉네임 (조합 공간을 모두 써버린 경우 empty)
+     */
+    public Optional<String> generate(String interests) {
+        SplittableRandom random = nextRandom();
+        List<String> themedNouns = themedNouns(interests);
+        
+        for (int round = 0; round < maxRounds; round++) {
+            Set<String> candidates = candidates(random, themedNouns, round);
+            if (candidates.isEmpty()) {
+                continue;
+            }
+            Set<String> taken = nicknameIndex.findTaken(candidates);
+            for (String candidate : candidates) {
+                if (!taken.contains(candidate)) {
+                    generatedCounter.increment();
+                    return Optional.of(candidate);
+                }
+            }
+            log.debug("로컬 닉네임 후보 {}개 모두 사용 중 - round: {}", candidates.size(), round);
+        }
+        
+        exhaustedCounter.increment();
+        log.warn("로컬 닉네임 생성 실패 - interests: {}", interests);
+        return Optional.empty();
+    }
+    
+    /**
+     * 한 번에 확인할 후보 묶음
+     * 1회차는 "형용사+명사", 2회차는 두 자리 숫자, 이후는 네 자리 숫자를 붙여 조합 공간을 넓힌다.
+     */
+    private Set<String> candidates(SplittableRandom random, List<String> themedNouns, int round) {
+        Set<String> candidates = new LinkedHashSet<>();
+        int suffixBound = round == 0 ? 0 : round == 1 ? 100 : 10_000;
+        for (int draw = 0; draw < batchSize * 3 && candidates.size() < batchSize; draw++) {
+            String noun = !themedNouns.isEmpty() && random.nextDouble() < interestWeight
+                    ? pick(random, themedNouns)
+                    : pick(random, NOUNS);
+            String candidate = pick(random, ADJECTIVES) + noun
+                    + (suffixBound > 0 ? String.valueOf(random.nextInt(suffixBound)) : "");
+            if (NicknameUtil.isValid(candidate)) {
+                candidates.add(candidate);
+            }
+        }
+        return candidates;
+    }
+    
+    /**
+     * 호출마다 독립된 난수열 (SplittableRandom은 스레드 간 공유 불가)
+     */
+    private SplittableRandom nextRandom() {
+        return new SplittableRandom(baseSeed + sequence.getAndIncrement() * 0x9E3779B97F4A7C15L);
+    }
+    
+    private static List<String> themedNouns(String interests) {
+        String key = NicknameUtil.interestKey(interests);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Set<String> nouns = new LinkedHashSet<>();
+        for (String keyword : key.split(",")) {
+            nouns.addAll(THEMED_NOUNS.getOrDefault(keyword, List.of()));
+        }
+        return List.copyOf(nouns);
+    }
+    
+    private static String pick(SplittableRandom random, List<String> words) {
+        return words.get(random.nextInt(words.size()));
+    }
+    
+    private static Map<String, List<String>> buildThemes(List<Theme> themes) {
+        Map<String, List<String>> byKeyword = new HashMap<>();
+        for (Theme theme : themes) {
+            for (String alias : theme.aliases()) {
+                byKeyword.computeIfAbsent(alias, k -> new ArrayList<>()).addAll(theme.nouns());
+            }
+        }
+        byKeyword.replaceAll((keyword, nouns) -> List.copyOf(nouns));
+        return Map.copyOf(byKeyword);
+    }
+    
+    private record Theme(List<String> aliases, List<String> nouns) {
+    }
+}
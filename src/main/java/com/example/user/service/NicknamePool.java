@@ -0,0 +1,210 @@
+package com.example.user.service;
+
+import com.example.user.cache.NicknameIndex;
+import com.example.user.client.PythonNicknameServiceClient;
+import com.example.user.dto.NicknameGenerateRequest;
+import com.example.user.util.NicknameUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 미리 생성해 둔 닉네임 풀
+ * 관심사 키워드(정규화)별 버킷에 사용 가능 확인을 마친 닉네임을 보관하고,
+ * 백그라운드에서 low watermark 아래로 내려간 버킷을 high watermark까지 채운다.
+ * 요청이 끊긴 버킷과 오래된 닉네임은 정리된다.
+ */
+@Component
+@Slf4j
+public class NicknamePool {
+    
+    private final PythonNicknameServiceClient pythonNicknameServiceClient;
+    private final NicknameIndex nicknameIndex;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Set<String> pooledNicknames = ConcurrentHashMap.newKeySet();
+    private final Counter hitCounter;
+    private final Counter fallbackCounter;
+    
+    @Value("${nickname.pool.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${nickname.pool.low-watermark:5}")
+    private int lowWatermark;
+    
+    @Value("${nickname.pool.high-watermark:20}")
+    private int highWatermark;
+    
+    @Value("${nickname.pool.max-buckets:50}")
+    private int maxBuckets;
+    
+    @Value("${nickname.pool.entry-ttl-ms:1800000}")
+    private long entryTtlMillis;
+    
+    @Value("${nickname.pool.bucket-idle-ms:600000}")
+    private long bucketIdleMillis;
+    
+    @Value("${nickname.pool.refill-concurrency:4}")
+    private int refillConcurrency;
+    
+    @Value("${nickname.pool.seed-username:사용자}")
+    private String seedUsername;
+    
+    public NicknamePool(PythonNicknameServiceClient pythonNicknameServiceClient,
+                        NicknameIndex nicknameIndex,
+                        MeterRegistry meterRegistry) {
+        this.pythonNicknameServiceClient = pythonNicknameServiceClient;
+        this.nicknameIndex = nicknameIndex;
+        this.hitCounter = Counter.builder("nickname.pool.requests").tag("result", "hit").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("nickname.pool.requests").tag("result", "fallback").register(meterRegistry);
+        Gauge.builder("nickname.pool.size", pooledNicknames, Set::size).register(meterRegistry);
+        Gauge.builder("nickname.pool.buckets", buckets, Map::size).register(meterRegistry);
+    }
+    
+    /**
+     * 관심사에 맞는 버킷에서 닉네임 하나를 꺼냅니다.
+     * 요청된 버킷은 활성 버킷으로 등록되어 이후 백그라운드에서 채워집니다.
+     * 
+     * @param interests 관심사 (null 가능)
+     * @return 사용 가능한 닉네임 (풀이 비어 있으면 empty)
+     */
+    public Optional<String> take(String interests) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String key = NicknameUtil.interestKey(interests);
+        Bucket bucket = buckets.get(key);
+        if (bucket == null && buckets.size() < maxBuckets) {
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket());
+        }
+        if (bucket == null) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+        bucket.lastRequestedAt = System.currentTimeMillis();
+        
+        Entry entry;
+        while ((entry = bucket.poll()) != null) {
+            pooledNicknames.remove(entry.nickname());
+            // 보관 중 다른 사용자가 가져갔을 수 있으므로 꺼낼 때 다시 확인
+            if (!entry.isExpired(System.currentTimeMillis(), entryTtlMillis) && !nicknameIndex.isTaken(entry.nickname())) {
+                hitCounter.increment();
+                return Optional.of(entry.nickname());
+            }
+        }
+        
+        fallbackCounter.increment();
+        return Optional.empty();
+    }
+    
+    /**
+     * 활성 버킷을 high watermark까지 채우고, 오래된 버킷/닉네임을 정리합니다.
+     * 업스트림 호출은 비동기로 진행되며 버킷별로 한 번에 하나의 채우기만 수행합니다.
+     */
+    @Scheduled(fixedDelayString = "${nickname.pool.replenish-interval-ms:2000}")
+    public void replenish() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        buckets.entrySet().removeIf(e -> {
+            // 채우는 중인 버킷을 지우면 이후 들어온 닉네임이 pooledNicknames에만 남으므로 다음 주기에 정리
+            boolean idle = now - e.getValue().lastRequestedAt > bucketIdleMillis && !e.getValue().refilling.get();
+            if (idle) {
+                e.getValue().drain(pooledNicknames);
+            }
+            return idle;
+        });
+        
+        buckets.forEach((key, bucket) -> {
+            bucket.evictExpired(now, entryTtlMillis, pooledNicknames);
+            if (bucket.size() < lowWatermark && bucket.refilling.compareAndSet(false, true)) {
+                refill(key, bucket, highWatermark - bucket.size());
+            }
+        });
+    }
+    
+    private void refill(String key, Bucket bucket, int needed) {
+        NicknameGenerateRequest request = new NicknameGenerateRequest();
+        request.setUsername(seedUsername);
+        request.setInterests(key.isEmpty() ? null : key.replace(",", ", "));
+        
+        Flux.range(0, needed)
+                .flatMap(i -> pythonNicknameServiceClient.generateNickname(request)
+                        .onErrorResume(e -> Mono.empty()), refillConcurrency)
+                .filter(response -> response.isAvailable() && NicknameUtil.isValid(response.getNickname()))
+                .publishOn(Schedulers.boundedElastic()) // 인덱스 확인이 DB 조회로 이어질 수 있음
+                .filter(response -> !nicknameIndex.isTaken(response.getNickname()))
+                .filter(response -> buckets.get(key) == bucket) // 정리된 버킷에는 더 넣지 않음
+                .filter(response -> pooledNicknames.add(response.getNickname()))
+                .doOnNext(response -> bucket.offer(new Entry(response.getNickname(), System.currentTimeMillis())))
+                .doFinally(signal -> bucket.refilling.set(false))
+                .subscribe(
+                        response -> { },
+                        e -> log.warn("닉네임 풀 채우기 실패 - bucket: '{}', {}", key, e.getMessage()));
+    }
+    
+    private record Entry(String nickname, long createdAt) {
+        
+        boolean isExpired(long now, long ttlMillis) {
+            return now - createdAt > ttlMillis;
+        }
+    }
+    
+    private static class Bucket {
+        
+        private final ConcurrentLinkedQueue<Entry> entries = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private volatile long lastRequestedAt = System.currentTimeMillis();
+        
+        void offer(Entry entry) {
+            entries.offer(entry);
+            size.incrementAndGet();
+        }
+        
+        Entry poll() {
+            Entry entry = entries.poll();
+            if (entry != null) {
+                size.decrementAndGet();
+            }
+            return entry;
+        }
+        
+        int size() {
+            return size.get();
+        }
+        
+        void evictExpired(long now, long ttlMillis, Set<String> pooledNicknames) {
+            // 먼저 들어온 항목이 먼저 만료되므로 앞에서부터 제거
+            Entry head;
+            while ((head = entries.peek()) != null && head.isExpired(now, ttlMillis)) {
+                if (entries.remove(head)) {
+                    size.decrementAndGet();
+                    pooledNicknames.remove(head.nickname());
+                }
+            }
+        }
+        
+        void drain(Set<String> pooledNicknames) {
+            Entry entry;
+            while ((entry = poll()) != null) {
+                pooledNicknames.remove(entry.nickname());
+            }
+        }
+    }
+}
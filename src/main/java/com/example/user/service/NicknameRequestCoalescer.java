@@ -0,0 +1,85 @@
+package com.example.user.service;
+
+import com.example.user.cache.NicknameIndex;
+import com.example.user.dto.NicknameGenerateRequest;
+import com.example.user.dto.NicknameGenerateResponse;
+import com.example.user.util.NicknameUtil;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 동일한 닉네임 생성 요청(username + 정규화된 관심사)의 업스트림 호출을 하나로 합침
+ * - 진행 중인 요청이 있으면 같은 future를 공유 (single-flight)
+ * - 완료된 결과는 짧은 TTL 동안 재사용 (재시도/중복 제출 대응)
+ * 반환 전에 닉네임이 그 사이 등록되지 않았는지 다시 확인하고, 등록됐으면 새로 생성한다.
+ * 실패한 future는 캐시에 남지 않는다.
+ */
+@Component
+@Slf4j
+public class NicknameRequestCoalescer {
+    
+    private final AsyncCache<String, NicknameGenerateResponse> results;
+    private final NicknameIndex nicknameIndex;
+    private final Counter staleCounter;
+    
+    public NicknameRequestCoalescer(NicknameIndex nicknameIndex,
+                                    @Value("${nickname.coalescing.result-ttl:30s}") Duration resultTtl,
+                                    @Value("${nickname.coalescing.max-size:10000}") long maxSize,
+                                    MeterRegistry meterRegistry) {
+        this.nicknameIndex = nicknameIndex;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(resultTtl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, results.synchronous(), "nickname-result");
+        this.staleCounter = Counter.builder("nickname.coalescing.stale").register(meterRegistry);
+    }
+    
+    /**
+     * 같은 키의 진행 중/최근 결과를 공유하여 업스트림 호출을 실행합니다.
+     * 
+     * @param request 닉네임 생성 요청
+     * @param upstream 실제 업스트림 호출
+     * @return 생성된 닉네임과 사용 가능 여부
+     */
+    public Mono<NicknameGenerateResponse> execute(NicknameGenerateRequest request,
+                                                  Function<NicknameGenerateRequest, Mono<NicknameGenerateResponse>> upstream) {
+        String key = request.getUsername().trim() + '\u0000' + NicknameUtil.interestKey(request.getInterests());
+        return Mono.defer(() -> fetch(key, request, upstream, true));
+    }
+    
+    private Mono<NicknameGenerateResponse> fetch(String key, NicknameGenerateRequest request,
+                                                 Function<NicknameGenerateRequest, Mono<NicknameGenerateResponse>> upstream,
+                                                 boolean retryIfStale) {
+        CompletableFuture<NicknameGenerateResponse> future =
+                results.get(key, (k, executor) -> upstream.apply(request).toFuture());
+        
+        // 한 구독자의 취소가 공유 future를 취소하지 않도록 suppressCancel
+        return Mono.fromFuture(future, true)
+                .publishOn(Schedulers.boundedElastic()) // 인덱스 확인이 DB 조회로 이어질 수 있음
+                .flatMap(response -> {
+                    if (!response.isAvailable() || !nicknameIndex.isTaken(response.getNickname())) {
+                        return Mono.just(response);
+                    }
+                    log.info("캐시된 닉네임이 이미 사용 중 - nickname: {}", response.getNickname());
+                    staleCounter.increment();
+                    results.asMap().remove(key, future);
+                    return retryIfStale
+                            ? fetch(key, request, upstream, false)
+                            : Mono.just(new NicknameGenerateResponse(response.getNickname(), false));
+                });
+    }
+}
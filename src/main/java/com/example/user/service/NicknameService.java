@@ -1,12 +1,26 @@
 package com.example.user.service;
 
+import com.example.user.cache.NicknameIndex;
 import com.example.user.client.PythonNicknameServiceClient;
+import com.example.user.dto.NicknameBatchGenerateRequest;
+import com.example.user.dto.NicknameBatchGenerateResponse;
 import com.example.user.dto.NicknameGenerateRequest;
 import com.example.user.dto.NicknameGenerateResponse;
+import com.example.user.exception.ServiceBusyException;
 import com.example.user.repository.UserRepository;
+import com.example.user.util.NicknameUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 
 @Service
@@ -16,30 +30,167 @@ public class NicknameService {
     
     private final PythonNicknameServiceClient pythonNicknameServiceClient;
     private final UserRepository userRepository;
+    private final NicknamePool nicknamePool;
+    private final NicknameRequestCoalescer nicknameRequestCoalescer;
+    private final LocalNicknameGenerator localNicknameGenerator;
+    private final NicknameIndex nicknameIndex;
+    
+    /**
+     * 로컬 조합형 생성기 사용 방식
+     * - off: 사용하지 않음
+     * - fallback: LLM 경로가 실패하거나 deadline을 넘기면 로컬 생성 결과로 응답
+     * - primary: LLM 경로 없이 로컬 생성기로만 생성
+     */
+    @Value("${nickname.local-generator.mode:fallback}")
+    private String localGeneratorMode;
+    
+    @Value("${nickname.batch.concurrency:4}")
+    private int batchConcurrency;
+    
+    @Value("${nickname.batch.deadline-ms:3000}")
+    private long batchDeadlineMs;
     
     /**
      * 사용자 정보를 기반으로 닉네임을 생성합니다.
-     * Python 닉네임 서비스를 호출하여 처리합니다.
+     * 미리 생성해 둔 닉네임 풀에서 먼저 꺼내고, 풀이 비어 있을 때만 Python 닉네임 서비스를 비동기로 호출합니다.
+     * 동일한 요청의 업스트림 호출은 하나로 합쳐지고 결과는 짧게 재사용됩니다.
+     * 설정에 따라 로컬 조합형 생성기를 대체 수단 또는 기본 수단으로 사용합니다.
      * 
      * @param request 닉네임 생성 요청
      * @return 생성된 닉네임과 사용 가능 여부
      */
-    public NicknameGenerateResponse generateNickname(NicknameGenerateRequest request) {
-        try {
-            log.info("Python 닉네임 서비스 호출 - username: {}, interests: {}", 
-                    request.getUsername(), request.getInterests());
-            
-            // Python 서비스 호출 (중복 체크 및 재시도 로직은 Python에서 처리)
-            NicknameGenerateResponse response = pythonNicknameServiceClient.generateNickname(request);
-            
-            log.info("Python 서비스 응답 - nickname: {}, isAvailable: {}", 
-                    response.getNickname(), response.isAvailable());
-            
-            return response;
-            
-        } catch (Exception e) {
-            log.error("닉네임 생성 중 오류 발생", e);
-            throw new RuntimeException("닉네임 생성 서비스에 일시적인 문제가 발생했습니다", e);
+    public Mono<NicknameGenerateResponse> generateNickname(NicknameGenerateRequest request) {
+        if (isLocalPrimary()) {
+            return generateLocally(request)
+                    .switchIfEmpty(Mono.error(() -> new RuntimeException("닉네임 생성 서비스에 일시적인 문제가 발생했습니다")));
+        }
+        
+        Mono<NicknameGenerateResponse> generated = Mono.defer(() -> nicknamePool.take(request.getInterests())
+                .map(nickname -> {
+                    log.info("닉네임 풀에서 제공 - nickname: {}, interests: {}", nickname, request.getInterests());
+                    return Mono.just(new NicknameGenerateResponse(nickname, true));
+                })
+                .orElseGet(() -> nicknameRequestCoalescer.execute(request, this::generateFromUpstream)));
+        
+        if (!isLocalFallback()) {
+            return generated;
         }
+        // 로컬 생성도 실패하면 원래 오류(503 등)를 그대로 전달
+        return generated.onErrorResume(e -> {
+            log.warn("LLM 닉네임 생성 실패, 로컬 생성기로 대체 - username: {}, cause: {}", request.getUsername(), e.toString());
+            return generateLocally(request).switchIfEmpty(Mono.error(e));
+        });
+    }
+    
+    /**
+     * 닉네임 후보를 여러 개 생성합니다.
+     * 후보 생성은 제한된 동시성으로 병렬 호출하고, 전체 deadline이 지나면 그때까지 얻은 후보만 사용합니다.
+     * 중복을 제거한 후보의 사용 여부는 한 번에 확인하며, 로컬 생성기가 켜져 있으면 모자란 개수를 채웁니다.
+     * 
+     * @param request 닉네임 일괄 생성 요청
+     * @return 사용 가능한 닉네임 목록 (요청 개수보다 적을 수 있음)
+     */
+    public Mono<NicknameBatchGenerateResponse> generateNicknames(NicknameBatchGenerateRequest request) {
+        int count = request.getCount();
+        Duration budget = Duration.ofMillis(batchDeadlineMs);
+        long deadlineAt = System.nanoTime() + budget.toNanos();
+        NicknameGenerateRequest single = request.toSingleRequest();
+        
+        Flux<String> candidates = isLocalPrimary()
+                ? Flux.empty()
+                : Flux.range(0, count)
+                        .flatMap(i -> candidate(single, deadlineAt), batchConcurrency)
+                        .take(budget); // deadline이 지나면 진행 중인 호출을 취소하고 모인 후보로 응답
+        
+        return candidates
+                .filter(NicknameUtil::isValid)
+                .distinct()
+                .collectList()
+                .publishOn(Schedulers.boundedElastic()) // 사용 여부 확인이 DB 조회로 이어질 수 있음
+                .map(nicknames -> {
+                    Set<String> taken = nicknames.isEmpty() ? Set.of() : nicknameIndex.findTaken(nicknames);
+                    Set<String> available = new LinkedHashSet<>(nicknames);
+                    available.removeAll(taken);
+                    if (isLocalPrimary() || isLocalFallback()) {
+                        topUpLocally(request.getInterests(), available, count);
+                    }
+                    
+                    List<NicknameGenerateResponse> nicknameResponses = available.stream()
+                            .limit(count)
+                            .map(nickname -> new NicknameGenerateResponse(nickname, true))
+                            .toList();
+                    log.info("닉네임 일괄 생성 - username: {}, requested: {}, generated: {}", 
+                            request.getUsername(), count, nicknameResponses.size());
+                    return NicknameBatchGenerateResponse.of(count, nicknameResponses);
+                });
+    }
+    
+    /**
+     * 후보 하나를 풀에서 꺼내거나 남은 deadline 안에서 Python 서비스로 생성 (실패한 후보는 건너뜀)
+     * 같은 요청이 합쳐지지 않도록 coalescer를 거치지 않고 직접 호출합니다.
+     * 풀에서 꺼낼 때의 사용 여부 확인이 DB 조회로 이어질 수 있고, flatMap의 이후 구독은 앞선 업스트림 응답을 받은
+     * 이벤트 루프 스레드에서 시작되므로 풀 조회는 boundedElastic에서 실행합니다.
+     */
+    private Mono<String> candidate(NicknameGenerateRequest request, long deadlineAt) {
+        return Mono.fromCallable(() -> nicknamePool.take(request.getInterests()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(pooled -> pooled
+                        .map(Mono::just)
+                        .orElseGet(() -> {
+                            Duration remaining = Duration.ofNanos(deadlineAt - System.nanoTime());
+                            if (remaining.isNegative() || remaining.isZero()) {
+                                return Mono.empty();
+                            }
+                            return pythonNicknameServiceClient.generateNickname(request, remaining)
+                                    .filter(NicknameGenerateResponse::isAvailable)
+                                    .map(NicknameGenerateResponse::getNickname)
+                                    .onErrorResume(e -> {
+                                        log.debug("닉네임 후보 생성 실패: {}", e.toString());
+                                        return Mono.empty();
+                                    });
+                        }));
+    }
+    
+    /**
+     * 모자란 개수를 로컬 생성기로 채움
+     */
+    private void topUpLocally(String interests, Set<String> nicknames, int count) {
+        for (int attempt = 0; attempt < count * 2 && nicknames.size() < count; attempt++) {
+            localNicknameGenerator.generate(interests).ifPresent(nicknames::add);
+        }
+    }
+    
+    private boolean isLocalPrimary() {
+        return "primary".equalsIgnoreCase(localGeneratorMode);
+    }
+    
+    private boolean isLocalFallback() {
+        return "fallback".equalsIgnoreCase(localGeneratorMode);
+    }
+    
+    /**
+     * 로컬 조합형 생성기로 닉네임을 생성합니다.
+     * 사용 여부 확인이 DB 조회로 이어질 수 있으므로 boundedElastic에서 실행합니다.
+     */
+    private Mono<NicknameGenerateResponse> generateLocally(NicknameGenerateRequest request) {
+        return Mono.fromCallable(() -> localNicknameGenerator.generate(request.getInterests()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(nickname -> Mono.justOrEmpty(nickname)
+                        .map(value -> new NicknameGenerateResponse(value, true)));
+    }
+    
+    /**
+     * Python 닉네임 서비스를 호출하여 닉네임을 생성합니다.
+     */
+    private Mono<NicknameGenerateResponse> generateFromUpstream(NicknameGenerateRequest request) {
+        log.info("Python 닉네임 서비스 호출 - username: {}, interests: {}", 
+                request.getUsername(), request.getInterests());
+        
+        // Python 서비스 호출 (중복 체크 및 재시도 로직은 Python에서 처리)
+        return pythonNicknameServiceClient.generateNickname(request)
+                .doOnNext(response -> log.info("Python 서비스 응답 - nickname: {}, isAvailable: {}", 
+                        response.getNickname(), response.isAvailable()))
+                .onErrorMap(e -> !(e instanceof ServiceBusyException),
+                        e -> new RuntimeException("닉네임 생성 서비스에 일시적인 문제가 발생했습니다", e));
     }
 }
@@ -1,19 +1,62 @@
 package com.example.user.service;
 
+import com.example.user.audit.AuditLogger;
+import com.example.user.cache.NicknameIndex;
+import com.example.user.cache.UserCache;
+import com.example.user.cache.VerifiedCredentialCache;
+import com.example.user.dto.AvailabilityCheckRequest;
+import com.example.user.dto.AvailabilityCheckResponse;
+import com.example.user.dto.UserBatchCreateResponse;
+import com.example.user.dto.UserBulkDeleteResponse;
 import com.example.user.dto.UserCreateRequest;
 import com.example.user.dto.UserLoginRequest;
+import com.example.user.dto.UserLoginResponse;
+import com.example.user.dto.UserPageResponse;
 import com.example.user.dto.UserResponse;
+import com.example.user.exception.LoginThrottledException;
+import com.example.user.entity.AuditEvent;
 import com.example.user.entity.User;
+import com.example.user.entity.UserChange;
+import com.example.user.repository.UserChangeRepository;
 import com.example.user.repository.UserRepository;
+import com.example.user.security.LoginRateLimiter;
+import com.example.user.security.SessionToken;
+import com.example.user.security.SessionTokenService;
 import com.example.user.util.PasswordUtil;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -22,25 +65,35 @@ import java.util.stream.Collectors;
 public class UserService {
     
     private final UserRepository userRepository;
+    private final UserChangeRepository userChangeRepository;
     private final PasswordUtil passwordUtil;
+    private final VerifiedCredentialCache credentialCache;
+    private final NicknameIndex nicknameIndex;
+    private final UserCache userCache;
+    private final SessionTokenService sessionTokenService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final AuditLogger auditLogger;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    
+    @Value("${user.pagination.default-size:20}")
+    private int defaultPageSize;
+    
+    @Value("${user.pagination.max-size:100}")
+    private int maxPageSize;
+    
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
     
     /**
      * 사용자 등록
      * @param request 사용자 등록 요청
      * @return 등록된 사용자 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 해시 동안 커넥션을 잡지 않고, 저장만 트랜잭션으로 감쌈
     public UserResponse createUser(UserCreateRequest request) {
-        // INV-U003: userID는 시스템 전체에서 유일해야 함
-        if (userRepository.existsByUserId(request.getUserId())) {
-            throw new IllegalArgumentException("이미 존재하는 사용자 ID입니다: " + request.getUserId());
-        }
-        
-        // INV-U003: 닉네임도 유일해야 함 (추가 검증)
-        if (userRepository.existsByNickname(request.getNickname())) {
-            throw new IllegalArgumentException("이미 존재하는 닉네임입니다: " + request.getNickname());
-        }
-        
         // INV-U005: password는 해시된 상태로만 저장되어야 함
         String hashedPassword = passwordUtil.encode(request.getPassword());
         
@@ -52,21 +105,204 @@ public class UserService {
                 .password(hashedPassword)
                 .build();
         
-        User savedUser = userRepository.save(user);
+        User savedUser = transactionTemplate.execute(status -> {
+            User saved;
+            try {
+                // INV-U003: userID와 닉네임은 유일해야 함
+                // 사전 조회 대신 PK/유니크 제약으로 확인하므로 검사와 INSERT 사이 경쟁이 없음
+                // 새 엔티티라 선조회 없이 INSERT 한 번, 제약 위반을 여기서 받기 위해 즉시 flush
+                saved = userRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                throw duplicateUserError(e, request);
+            }
+            userChangeRepository.save(UserChange.created(saved));
+            nicknameIndex.add(saved.getNickname(), saved.getUserId());
+            userCache.invalidate(saved.getUserId()); // negative 캐시 제거
+            auditLogger.recordAfterCommit(AuditEvent.of(AuditEvent.EventType.USER_CREATED, saved.getUserId()));
+            return saved;
+        });
         log.info("사용자 등록 완료: {}", savedUser.getUserId());
         
         return UserResponse.from(savedUser);
     }
     
     /**
-     * 모든 사용자 조회
-     * @return 모든 사용자 목록
+     * 사용자 일괄 등록
+     * 중복 검사는 ID/닉네임 각각 한 번의 IN 조회로, 해시는 전용 풀에서 병렬로, 저장은 JDBC 배치로 처리
+     * 사전 검사 이후 다른 요청이 같은 ID/닉네임을 먼저 등록해 제약 위반이 나면 항목별 트랜잭션으로 다시 저장해
+     * 충돌한 항목만 실패로 돌려준다.
+     * @param requests 사용자 등록 요청 목록
+     * @return 항목별 등록 결과
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 해시 동안 커넥션을 잡지 않고, 저장은 트랜잭션을 따로 엶
+    public UserBatchCreateResponse createUsers(List<UserCreateRequest> requests) {
+        Set<String> userIds = new HashSet<>();
+        Set<String> nicknames = new HashSet<>();
+        for (UserCreateRequest request : requests) {
+            if (request != null) {
+                userIds.add(request.getUserId());
+                nicknames.add(request.getNickname());
+            }
+        }
+        userIds.remove(null);
+        nicknames.remove(null);
+        
+        // INV-U003: userID와 닉네임은 유일해야 함 (요청 내부 중복 포함)
+        // DB 콜레이션이 대소문자를 구분하지 않으므로 소문자 키로 비교
+        Set<String> takenUserIds = new HashSet<>();
+        Set<String> takenNicknames = new HashSet<>();
+        if (!userIds.isEmpty()) {
+            userRepository.findExistingUserIds(userIds).forEach(userId -> takenUserIds.add(caseKey(userId)));
+        }
+        if (!nicknames.isEmpty()) {
+            userRepository.findExistingNicknames(nicknames).forEach(nickname -> takenNicknames.add(caseKey(nickname)));
+        }
+        
+        UserBatchCreateResponse.Item[] results = new UserBatchCreateResponse.Item[requests.size()];
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            UserCreateRequest request = requests.get(i);
+            String failure = validateBatchItem(request, takenUserIds, takenNicknames);
+            if (failure != null) {
+                results[i] = UserBatchCreateResponse.Item.failure(i, request != null ? request.getUserId() : null, failure);
+                continue;
+            }
+            takenUserIds.add(caseKey(request.getUserId()));
+            takenNicknames.add(caseKey(request.getNickname()));
+            accepted.add(i);
+        }
+        
+        // INV-U005: password는 해시된 상태로만 저장되어야 함
+        List<String> hashedPasswords = passwordUtil.encodeAll(accepted.stream()
+                .map(i -> requests.get(i).getPassword())
+                .collect(Collectors.toList()));
+        
+        try {
+            transactionTemplate.executeWithoutResult(status -> persistBatch(requests, accepted, hashedPasswords));
+            for (int i : accepted) {
+                results[i] = UserBatchCreateResponse.Item.success(i, responseOf(requests.get(i)));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 사전 검사와 INSERT 사이에 다른 요청이 먼저 등록한 경우: 전체를 실패시키지 않고 항목별로 다시 저장
+            log.warn("사용자 일괄 등록 중 제약 위반, 항목별로 다시 저장: {}건", accepted.size());
+            for (int n = 0; n < accepted.size(); n++) {
+                int i = accepted.get(n);
+                UserCreateRequest request = requests.get(i);
+                List<String> hashedPassword = hashedPasswords.subList(n, n + 1);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persistBatch(requests, List.of(i), hashedPassword));
+                    results[i] = UserBatchCreateResponse.Item.success(i, responseOf(request));
+                } catch (DataIntegrityViolationException itemError) {
+                    RuntimeException error = duplicateUserError(itemError, request);
+                    results[i] = UserBatchCreateResponse.Item.failure(i, request.getUserId(),
+                            error instanceof IllegalArgumentException ? error.getMessage() : "제약 조건 위반으로 등록하지 못했습니다");
+                }
+            }
+        }
+        
+        UserBatchCreateResponse response = UserBatchCreateResponse.of(List.of(results));
+        log.info("사용자 일괄 등록 완료: 요청 {}건, 성공 {}건, 실패 {}건",
+                response.getTotal(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+    
+    /**
+     * 검사를 통과한 항목을 현재 트랜잭션에서 배치 INSERT
+     * 캐시/인덱스/감사 기록은 커밋 후에 반영되므로 롤백되면 남지 않음
+     */
+    private void persistBatch(List<UserCreateRequest> requests, List<Integer> indexes, List<String> hashedPasswords) {
+        List<UserChange> changes = new ArrayList<>();
+        // 할당형 ID라 save()는 merge(선조회)를 유발하므로 persist로 직접 배치 INSERT
+        for (int n = 0; n < indexes.size(); n++) {
+            UserCreateRequest request = requests.get(indexes.get(n));
+            User user = User.builder()
+                    .userId(request.getUserId())
+                    .isAdmin(false) // INV-U004: isAdmin은 기본값이 FALSE여야 함
+                    .username(request.getUsername())
+                    .nickname(request.getNickname())
+                    .password(hashedPasswords.get(n))
+                    .build();
+            entityManager.persist(user);
+            changes.add(UserChange.created(user));
+            nicknameIndex.add(user.getNickname(), user.getUserId());
+            userCache.invalidate(user.getUserId());
+            auditLogger.recordAfterCommit(AuditEvent.of(AuditEvent.EventType.USER_CREATED, user.getUserId()));
+            
+            if ((n + 1) % jdbcBatchSize == 0) {
+                flushAndClear();
+            }
+        }
+        flushAndClear();
+        // IDENTITY 키라 배치되지 않으므로 사용자 INSERT 배치가 끝난 뒤 기록
+        userChangeRepository.saveAll(changes);
+    }
+    
+    /**
+     * 제약 위반이 DataIntegrityViolationException으로 변환되도록 repository를 통해 flush
      */
-    public List<UserResponse> getAllUsers() {
-        List<User> users = userRepository.findAll();
-        return users.stream()
-                .map(UserResponse::from)
-                .collect(Collectors.toList());
+    private void flushAndClear() {
+        userRepository.flush();
+        entityManager.clear();
+    }
+    
+    private static UserResponse responseOf(UserCreateRequest request) {
+        return UserResponse.builder()
+                .userId(request.getUserId())
+                .isAdmin(false)
+                .username(request.getUsername())
+                .nickname(request.getNickname())
+                .build();
+    }
+    
+    /**
+     * 사용자 목록 조회 (user_id 기준 keyset 페이지네이션)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (null이면 기본값, 최대값 초과 시 최대값으로 제한)
+     * @return 사용자 목록 페이지
+     */
+    public UserPageResponse getUsers(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        
+        List<UserResponse> users = (cursor == null || cursor.isBlank())
+                ? userRepository.findResponsesOrderByUserId(limit)
+                : userRepository.findResponsesAfterOrderByUserId(decodeCursor(cursor), limit);
+        
+        List<UserResponse> content = users.size() > pageSize ? users.subList(0, pageSize) : users;
+        
+        String nextCursor = users.size() > pageSize
+                ? encodeCursor(content.get(content.size() - 1).getUserId())
+                : null;
+        
+        return UserPageResponse.of(content, nextCursor);
+    }
+    
+    /**
+     * 전체 사용자를 NDJSON(한 줄에 하나의 JSON)으로 출력 스트림에 기록
+     * 한 건씩 읽어 바로 쓰고 관리 대상 엔티티를 만들지 않으므로 테이블 크기와 무관하게 메모리 사용량이 일정함
+     * @param out 응답 출력 스트림 (닫지 않음)
+     * @return 기록한 사용자 수
+     */
+    public long exportUsers(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(UserResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        
+        try (Stream<UserResponse> users = userRepository.streamAllResponsesOrderByUserId();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            
+            Iterator<UserResponse> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        
+        return count;
     }
     
     /**
@@ -74,11 +310,45 @@ public class UserService {
      * @param userId 사용자 ID
      * @return 사용자 정보
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // 캐시 적중 시 커넥션을 잡지 않음
     public UserResponse getUser(String userId) {
-        User user = userRepository.findByUserId(userId)
+        // 비밀번호가 필요 없으므로 응답 컬럼만 조회 (로그인용 엔티티 캐시와 별도로 캐시)
+        return userCache.getResponse(userId, userRepository::findResponseByUserId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+    }
+    
+    /**
+     * 닉네임/사용자 ID 사용 가능 여부 일괄 확인
+     * 항목마다 exists 조회를 하지 않고 컬럼별로 IN 조회 한 번씩만 수행 (닉네임은 인덱스에서 걸러지면 조회 생략)
+     * @param request 확인할 닉네임/사용자 ID 목록
+     * @return 값별 사용 가능 여부
+     */
+    public AvailabilityCheckResponse checkAvailability(AvailabilityCheckRequest request) {
+        Set<String> nicknames = distinctValues(request.getNicknames());
+        Set<String> userIds = distinctValues(request.getUserIds());
+        if (nicknames.isEmpty() && userIds.isEmpty()) {
+            throw new IllegalArgumentException("확인할 닉네임 또는 사용자 ID가 필요합니다");
+        }
         
-        return UserResponse.from(user);
+        Map<String, Boolean> nicknameAvailability = new LinkedHashMap<>();
+        if (!nicknames.isEmpty()) {
+            Set<String> taken = nicknameIndex.findTaken(nicknames);
+            nicknames.forEach(nickname -> nicknameAvailability.put(nickname, !taken.contains(nickname)));
+        }
+        
+        Map<String, Boolean> userIdAvailability = new LinkedHashMap<>();
+        if (!userIds.isEmpty()) {
+            // DB 콜레이션이 대소문자를 구분하지 않으므로 소문자로 비교
+            Set<String> existing = userRepository.findExistingUserIds(userIds).stream()
+                    .map(userId -> userId.toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+            userIds.forEach(userId -> userIdAvailability.put(userId, !existing.contains(userId.toLowerCase(Locale.ROOT))));
+        }
+        
+        return AvailabilityCheckResponse.builder()
+                .nicknames(nicknameAvailability)
+                .userIds(userIdAvailability)
+                .build();
     }
     
     /**
@@ -87,37 +357,200 @@ public class UserService {
      */
     @Transactional
     public void deleteUser(String userId) {
-        if (!userRepository.existsByUserId(userId)) {
+        // 존재 확인/엔티티 조회 없이 DELETE 한 문장, 삭제된 행이 없으면 404
+        if (userRepository.deleteByUserIdInBulk(userId) == 0) {
             throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
         }
         
-        userRepository.deleteById(userId);
+        userChangeRepository.save(UserChange.deleted(userId));
+        evictDeletedUser(userId);
+        auditLogger.recordAfterCommit(AuditEvent.of(AuditEvent.EventType.USER_DELETED, userId));
         log.info("사용자 삭제 완료: {}", userId);
     }
     
+    /**
+     * 사용자 일괄 삭제 (계정 정리 작업용)
+     * 존재하는 ID를 한 번 조회한 뒤 DELETE 한 문장으로 삭제하고, 삭제된 사용자만 변경 로그에 기록
+     * @param userIds 삭제할 사용자 ID 목록
+     * @return 삭제 결과 (찾지 못한 ID 포함)
+     */
+    @Transactional
+    public UserBulkDeleteResponse deleteUsers(List<String> userIds) {
+        Set<String> requested = distinctValues(userIds);
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("삭제할 사용자 ID가 필요합니다");
+        }
+        
+        Set<String> existing = userRepository.findExistingUserIds(requested);
+        int deleted = existing.isEmpty() ? 0 : userRepository.deleteAllByUserIdInBulk(existing);
+        if (!existing.isEmpty()) {
+            userChangeRepository.saveAll(existing.stream().map(UserChange::deleted).toList());
+            existing.forEach(this::evictDeletedUser);
+            existing.forEach(userId -> auditLogger.recordAfterCommit(AuditEvent.of(AuditEvent.EventType.USER_DELETED, userId)));
+        }
+        
+        // DB 콜레이션이 대소문자를 구분하지 않으므로 소문자로 비교
+        Set<String> existingKeys = existing.stream()
+                .map(userId -> userId.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        List<String> notFound = requested.stream()
+                .filter(userId -> !existingKeys.contains(userId.toLowerCase(Locale.ROOT)))
+                .toList();
+        
+        log.info("사용자 일괄 삭제 완료: 요청 {}건, 삭제 {}건", requested.size(), deleted);
+        return UserBulkDeleteResponse.builder()
+                .requested(requested.size())
+                .deleted(deleted)
+                .notFound(notFound)
+                .build();
+    }
+    
+    private void evictDeletedUser(String userId) {
+        userCache.invalidate(userId);
+        credentialCache.invalidate(userId);
+        nicknameIndex.removeUser(userId);
+        sessionTokenService.revokeAllFor(userId);
+    }
+    
     /**
      * 로그인
      * @param request 로그인 요청
-     * @return 로그인 성공 시 사용자 정보
+     * @param clientIp 클라이언트 IP (시도 제한용, null 가능)
+     * @return 로그인 성공 시 사용자 정보와 세션 토큰
      */
-    public UserResponse login(UserLoginRequest request) {
-        User user = userRepository.findByUserId(request.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + request.getUserId()));
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS) // BCrypt 검증 동안 커넥션을 잡지 않음
+    public UserLoginResponse login(UserLoginRequest request, String clientIp) {
+        // 사용자 조회/BCrypt 검증 전에 시도 횟수부터 확인
+        try {
+            loginRateLimiter.acquire(request.getUserId(), clientIp);
+        } catch (LoginThrottledException e) {
+            auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGIN_THROTTLED, request.getUserId(), clientIp, null));
+            throw e;
+        }
+        
+        // 실패 이벤트는 트랜잭션 결과와 무관하게 바로 기록
+        Optional<User> found = userCache.get(request.getUserId(), userRepository::findByUserId);
+        if (found.isEmpty()) {
+            auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGIN_FAILED, request.getUserId(), clientIp, "USER_NOT_FOUND"));
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + request.getUserId());
+        }
+        User user = found.get();
         
-        // 비밀번호 검증
-        if (!passwordUtil.matches(request.getPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다");
+        // 비밀번호 검증 (최근 검증된 자격 증명이면 BCrypt 생략)
+        if (!credentialCache.isVerified(user.getUserId(), request.getPassword(), user.getPassword())) {
+            if (!passwordUtil.matches(request.getPassword(), user.getPassword())) {
+                auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGIN_FAILED, user.getUserId(), clientIp, "BAD_PASSWORD"));
+                throw new IllegalArgumentException("비밀번호가 일치하지 않습니다");
+            }
+            credentialCache.put(user.getUserId(), request.getPassword(), user.getPassword());
         }
         
+        UserResponse userResponse = UserResponse.from(user);
+        SessionTokenService.IssuedToken token = sessionTokenService.issue(userResponse);
+        auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGIN_SUCCEEDED, user.getUserId(), clientIp, null));
         log.info("사용자 로그인 성공: {}", user.getUserId());
-        return UserResponse.from(user);
+        return UserLoginResponse.of(userResponse, token);
     }
     
     /**
-     * 로그아웃 (단순 로그 기록)
+     * 로그아웃
+     * 세션 토큰을 함께 보내면 만료 전이라도 더 이상 인증에 쓸 수 없도록 폐기
      * @param userId 사용자 ID
+     * @param accessToken 세션 토큰 (없으면 로그만 기록)
      */
-    public void logout(String userId) {
+    public void logout(String userId, String accessToken) {
+        if (accessToken != null) {
+            Optional<SessionToken> token = sessionTokenService.verify(accessToken);
+            if (token.isPresent()) {
+                // 사용자 ID는 대소문자 구분 없이 유일하므로 동일하게 비교
+                if (!token.get().userId().equalsIgnoreCase(userId)) {
+                    throw new IllegalArgumentException("토큰의 사용자와 요청한 사용자가 다릅니다");
+                }
+                sessionTokenService.revoke(token.get());
+            }
+        }
+        auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGOUT, userId));
         log.info("사용자 로그아웃: {}", userId);
     }
+    
+    /**
+     * 제약 위반 오류를 중복 ID/닉네임 오류로 변환
+     * 제약 이름은 DB마다 메시지에 담기는 형태가 달라(MySQL "for key 'users.uk_users_nickname'", H2 "PUBLIC.UK_USERS_NICKNAME...")
+     * 소문자로 맞춰 포함 여부로 판단
+     */
+    private static RuntimeException duplicateUserError(DataIntegrityViolationException e, UserCreateRequest request) {
+        String detail = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (detail.contains(User.NICKNAME_UNIQUE_CONSTRAINT)) {
+            return new IllegalArgumentException("이미 존재하는 닉네임입니다: " + request.getNickname());
+        }
+        if (detail.contains("primary")) {
+            return new IllegalArgumentException("이미 존재하는 사용자 ID입니다: " + request.getUserId());
+        }
+        return e;
+    }
+    
+    private static Set<String> distinctValues(List<String> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+    
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + size);
+        }
+        return Math.min(size, maxPageSize);
+    }
+    
+    /**
+     * 커서는 마지막 user_id를 URL-safe Base64로 감싼 불투명 문자열
+     */
+    private String encodeCursor(String userId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(userId.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+    
+    /**
+     * DB 콜레이션이 대소문자를 구분하지 않으므로 같은 값으로 취급할 비교 키
+     */
+    private static String caseKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * 일괄 등록 항목 검증
+     * @return 실패 사유 (통과 시 null)
+     */
+    private String validateBatchItem(UserCreateRequest request, Set<String> takenUserIds, Set<String> takenNicknames) {
+        if (request == null) {
+            return "요청 항목이 비어 있습니다";
+        }
+        Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (takenUserIds.contains(caseKey(request.getUserId()))) {
+            return "이미 존재하는 사용자 ID입니다: " + request.getUserId();
+        }
+        if (takenNicknames.contains(caseKey(request.getNickname()))) {
+            return "이미 존재하는 닉네임입니다: " + request.getNickname();
+        }
+        return null;
+    }
 }
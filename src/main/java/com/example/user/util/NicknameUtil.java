@@ -0,0 +1,52 @@
+package com.example.user.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 닉네임 형식 검증 및 관심사 키워드 정규화
+ */
+public final class NicknameUtil {
+    
+    // 2-20자, 한글/영어/숫자/언더스코어
+    private static final Pattern NICKNAME_PATTERN = Pattern.compile("^[가-힣a-zA-Z0-9_]{2,20}$");
+    private static final Pattern INTEREST_SEPARATOR = Pattern.compile("[,\\s/]+");
+    private static final String[] INAPPROPRIATE_WORDS = {"admin", "test", "null", "undefined"};
+    
+    private NicknameUtil() {
+    }
+    
+    /**
+     * 닉네임의 유효성을 검증합니다.
+     */
+    public static boolean isValid(String nickname) {
+        if (nickname == null || !NICKNAME_PATTERN.matcher(nickname).matches()) {
+            return false;
+        }
+        String lowerNickname = nickname.toLowerCase(Locale.ROOT);
+        for (String word : INAPPROPRIATE_WORDS) {
+            if (lowerNickname.contains(word)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * 관심사 문자열을 순서/대소문자/공백과 무관한 키로 정규화합니다.
+     * 예: " 음악, 게임 " -> "게임,음악", null/빈 값 -> ""
+     */
+    public static String interestKey(String interests) {
+        if (interests == null || interests.isBlank()) {
+            return "";
+        }
+        return Arrays.stream(INTEREST_SEPARATOR.split(interests.trim()))
+                .filter(keyword -> !keyword.isEmpty())
+                .map(keyword -> keyword.toLowerCase(Locale.ROOT))
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+}
@@ -1,24 +1,84 @@
 package com.example.user.util;
 
+import com.example.user.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
 @Component
 public class PasswordUtil {
     
     private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashExecutor;
+    private final Timer encodeTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+    
+    @Value("${password.hash.retry-after-seconds:1}")
+    private long retryAfterSeconds;
     
-    public PasswordUtil() {
-        this.passwordEncoder = new BCryptPasswordEncoder();
+    public PasswordUtil(@Qualifier("passwordHashExecutor") ThreadPoolExecutor hashExecutor,
+                        MeterRegistry meterRegistry,
+                        @Value("${password.hash.strength:10}") int strength) {
+        // 비용 인자(log2 라운드 수)는 해시에 함께 저장되므로 바꿔도 기존 해시 검증에는 영향 없음
+        this.passwordEncoder = new BCryptPasswordEncoder(strength);
+        this.hashExecutor = hashExecutor;
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("password.hash.duration")
+                .tag("operation", "verify")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .register(meterRegistry);
     }
     
     /**
      * 평문 비밀번호를 해시화
      * @param rawPassword 평문 비밀번호
      * @return 해시된 비밀번호
+     * @throws ServiceBusyException 해시 풀이 포화된 경우
      */
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return join(submit(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+    }
+    
+    /**
+     * 여러 평문 비밀번호를 해시 전용 풀에서 병렬로 해시화
+     * 풀 크기만큼씩 나누어 제출하므로 일괄 요청이 큐를 독점하지 않음
+     * @param rawPasswords 평문 비밀번호 목록
+     * @return 입력 순서와 같은 해시된 비밀번호 목록
+     * @throws ServiceBusyException 해시 풀이 포화된 경우
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        int window = Math.max(1, hashExecutor.getMaximumPoolSize());
+        List<String> hashed = new ArrayList<>(rawPasswords.size());
+        
+        for (int from = 0; from < rawPasswords.size(); from += window) {
+            List<CompletableFuture<String>> futures = new ArrayList<>(window);
+            for (String raw : rawPasswords.subList(from, Math.min(from + window, rawPasswords.size()))) {
+                futures.add(submit(encodeTimer, () -> passwordEncoder.encode(raw)));
+            }
+            for (CompletableFuture<String> future : futures) {
+                hashed.add(join(future));
+            }
+        }
+        
+        return hashed;
     }
     
     /**
@@ -26,8 +86,29 @@ public class PasswordUtil {
      * @param rawPassword 평문 비밀번호
      * @param encodedPassword 해시된 비밀번호
      * @return 일치 여부
+     * @throws ServiceBusyException 해시 풀이 포화된 경우
      */
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return join(submit(verifyTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+    
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), hashExecutor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요", retryAfterSeconds);
+        }
+    }
+    
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 }
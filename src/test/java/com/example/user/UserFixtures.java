@@ -0,0 +1,21 @@
+package com.example.user;
+
+import com.example.user.dto.UserCreateRequest;
+
+/**
+ * 테스트 공용 요청 픽스처
+ */
+public final class UserFixtures {
+    
+    private UserFixtures() {
+    }
+    
+    public static UserCreateRequest createRequest(String userId, String nickname) {
+        return UserCreateRequest.builder()
+                .userId(userId)
+                .username("테스트")
+                .nickname(nickname)
+                .password("password123")
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.user.audit;
+
+import com.example.user.entity.AuditEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 감사 이벤트 배치 기록/버퍼 초과/종료 시 flush/실패 처리 검증 (DB 쓰기는 JdbcTemplate 목으로 대체)
+ */
+class AuditLoggerTest {
+    
+    private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger transientFailures = new AtomicInteger();
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    
+    @TempDir
+    private Path tempDir;
+    
+    @Test
+    void writesFullBatchesAndFlushesRemainderOnStop() {
+        AuditLogger auditLogger = auditLogger(100, 3, 60_000, AuditLogger.OverflowPolicy.DROP_NEWEST);
+        auditLogger.start();
+        
+        for (int i = 0; i < 7; i++) {
+            auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGIN_SUCCEEDED, "user" + i));
+        }
+        auditLogger.stop();
+        
+        // flush 간격이 길어도 크기 조건으로 3건씩 기록하고, 남은 1건은 종료 시 기록
+        assertThat(batches).hasSize(3);
+        assertThat(written()).containsExactly("user0", "user1", "user2", "user3", "user4", "user5", "user6");
+    }
+    
+    @Test
+    void dropOldestKeepsNewestEvents() {
+        AuditLogger auditLogger = auditLogger(2, 10, 10, AuditLogger.OverflowPolicy.DROP_OLDEST);
+        
+        // writer 시작 전이라 버퍼에만 쌓임
+        for (int i = 0; i < 5; i++) {
+            auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGOUT, "user" + i));
+        }
+        auditLogger.start();
+        auditLogger.stop();
+        
+        assertThat(written()).containsExactly("user3", "user4");
+    }
+    
+    @Test
+    void dropNewestRejectsWhenFull() {
+        AuditLogger auditLogger = auditLogger(2, 10, 10, AuditLogger.OverflowPolicy.DROP_NEWEST);
+        
+        for (int i = 0; i < 5; i++) {
+            auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGOUT, "user" + i));
+        }
+        auditLogger.start();
+        auditLogger.stop();
+        
+        assertThat(written()).containsExactly("user0", "user1");
+    }
+    
+    @Test
+    void oversizedFieldsAreTruncatedSoTheBatchStillSucceeds() {
+        AuditLogger auditLogger = auditLogger(100, 10, 10, AuditLogger.OverflowPolicy.DROP_NEWEST);
+        String oversized = "x".repeat(500) + "@kt.com";
+        
+        auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGIN_FAILED, "user0", "10.0.0.1", null));
+        auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGIN_FAILED, oversized, "1".repeat(100), "d".repeat(1000)));
+        auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGIN_FAILED, "user2", "10.0.0.1", null));
+        auditLogger.start();
+        auditLogger.stop();
+        
+        assertThat(written()).hasSize(3).contains("user0", "user2", "x".repeat(AuditEvent.USER_ID_LENGTH));
+    }
+    
+    @Test
+    void rejectedRowGoesToFallbackWithoutLosingTheRestOfTheBatch() throws Exception {
+        AuditLogger auditLogger = auditLogger(100, 10, 10, AuditLogger.OverflowPolicy.DROP_NEWEST);
+        
+        for (int i = 0; i < 7; i++) {
+            auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGIN_FAILED, i == 4 ? "poison" : "user" + i));
+        }
+        auditLogger.start();
+        auditLogger.stop();
+        
+        assertThat(written()).containsExactly("user0", "user1", "user2", "user3", "user5", "user6");
+        List<String> fallback = Files.readAllLines(tempDir.resolve("audit-fallback.ndjson"));
+        assertThat(fallback).hasSize(1);
+        assertThat(fallback.get(0)).contains("\"userId\":\"poison\"");
+        // 실패한 배치는 롤백되어 나눠 다시 기록해도 중복되지 않음
+        verify(transactionManager, atLeastOnce()).rollback(any());
+    }
+    
+    @Test
+    void transientFailureIsRetried() {
+        AuditLogger auditLogger = auditLogger(100, 10, 10, AuditLogger.OverflowPolicy.DROP_NEWEST);
+        transientFailures.set(2);
+        
+        auditLogger.record(AuditEvent.of(AuditEvent.EventType.LOGOUT, "user0"));
+        auditLogger.start();
+        auditLogger.stop();
+        
+        assertThat(written()).containsExactly("user0");
+        assertThat(Files.exists(tempDir.resolve("audit-fallback.ndjson"))).isFalse();
+    }
+    
+    private List<String> written() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private AuditLogger auditLogger(int capacity, int batchSize, long flushIntervalMillis, AuditLogger.OverflowPolicy policy) {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<AuditEvent> events = invocation.getArgument(1);
+                    if (transientFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                        throw new TransientDataAccessResourceException("연결 끊김");
+                    }
+                    if (events.stream().anyMatch(event -> "poison".equals(event.getUserId()))) {
+                        throw new DataIntegrityViolationException("Data too long for column 'user_id'");
+                    }
+                    batches.add(events.stream().map(AuditEvent::getUserId).toList());
+                    return new int[0][];
+                });
+        return new AuditLogger(jdbcTemplate, new TransactionTemplate(transactionManager), new ObjectMapper(), true, capacity, batchSize, flushIntervalMillis, policy,
+                50, 5_000, 3, 1, tempDir.resolve("audit-fallback.ndjson"), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.user.benchmark;
+
+import com.example.user.UserServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 플랫폼 스레드(기본) vs 가상 스레드 모드 비교 벤치마크
+ * 작은 Tomcat 워커 풀에서 BCrypt 로그인과 가벼운 조회를 섞어 동시에 보내고,
+ * 조회 요청의 p50/p99 지연시간과 전체 처리량을 출력한다.
+ *
+ * ./gradlew benchmark -Dbenchmark.concurrency=200 -Dbenchmark.requests=10
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmark {
+    
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 200);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 10);
+    private static final int TOMCAT_MAX_THREADS = Integer.getInteger("benchmark.tomcat-threads", 50);
+    
+    private static final String USER_ID = "bench@kt.com";
+    private static final String PASSWORD = "password123";
+    
+    @Test
+    void compareVirtualAndPlatformThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+        
+        System.out.printf("%n동시 클라이언트 %d, 클라이언트당 요청 %d, Tomcat 최대 스레드 %d%n",
+                CONCURRENCY, REQUESTS_PER_CLIENT, TOMCAT_MAX_THREADS);
+        System.out.printf("%-10s %10s %10s %10s %10s %8s%n", "mode", "req/s", "get p50", "get p99", "login p99", "errors");
+        platform.print("platform");
+        virtual.print("virtual");
+    }
+    
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + virtualThreads + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "password.hash.queue-capacity=100000", // 부하 차단 없이 스레드 모델만 비교
+                        "login.rate-limit.enabled=false",
+                        "logging.level.com.example.user=WARN")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            String baseUrl = "http://localhost:" + port + "/users";
+            
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            send(client, post(baseUrl, "{\"userId\":\"" + USER_ID + "\",\"username\":\"벤치\",\"nickname\":\"벤치마크\",\"password\":\"" + PASSWORD + "\"}"));
+            
+            List<Long> getLatencies = Collections.synchronizedList(new ArrayList<>());
+            List<Long> loginLatencies = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger errors = new AtomicInteger();
+            
+            long started = System.nanoTime();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int c = 0; c < CONCURRENCY; c++) {
+                    boolean loginClient = c % 2 == 0;
+                    futures.add(clients.submit(() -> {
+                        for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                            HttpRequest request = loginClient
+                                    ? post(baseUrl + "/login", "{\"userId\":\"" + USER_ID + "\",\"password\":\"" + PASSWORD + "\"}")
+                                    : HttpRequest.newBuilder(URI.create(baseUrl + "/" + USER_ID)).GET().build();
+                            long t0 = System.nanoTime();
+                            int status = send(client, request);
+                            long elapsed = System.nanoTime() - t0;
+                            if (status != 200) {
+                                errors.incrementAndGet();
+                            }
+                            (loginClient ? loginLatencies : getLatencies).add(elapsed);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            long elapsedNanos = System.nanoTime() - started;
+            
+            return new Result(getLatencies, loginLatencies, errors.get(), elapsedNanos);
+        }
+    }
+    
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+    
+    private static int send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+    
+    private record Result(List<Long> getLatencies, List<Long> loginLatencies, int errors, long elapsedNanos) {
+        
+        void print(String mode) {
+            int total = getLatencies.size() + loginLatencies.size();
+            double throughput = total / (elapsedNanos / 1_000_000_000.0);
+            System.out.printf("%-10s %10.1f %8.1fms %8.1fms %8.1fms %8d%n", mode, throughput,
+                    percentile(getLatencies, 50), percentile(getLatencies, 99), percentile(loginLatencies, 99), errors);
+        }
+        
+        private static double percentile(List<Long> latencies, int p) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index)) / 1_000_000.0;
+        }
+    }
+}
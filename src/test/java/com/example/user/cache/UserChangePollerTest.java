@@ -0,0 +1,99 @@
+package com.example.user.cache;
+
+import com.example.user.UserServiceApplication;
+import com.example.user.service.UserService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static com.example.user.UserFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 같은 내장 DB를 공유하는 두 애플리케이션 컨텍스트로 인스턴스 간 캐시 무효화 검증
+ */
+class UserChangePollerTest {
+    
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+    
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+    
+    @Test
+    void deleteOnOneNodeEvictsCachedUserOnOtherNode() {
+        UserService serviceA = nodeA.getBean(UserService.class);
+        UserService serviceB = nodeB.getBean(UserService.class);
+        
+        serviceA.createUser(createRequest("poller-delete@kt.com", "삭제될닉네임"));
+        assertThat(serviceB.getUser("poller-delete@kt.com").getNickname()).isEqualTo("삭제될닉네임");
+        
+        serviceA.deleteUser("poller-delete@kt.com");
+        
+        awaitTrue(() -> isMissing(serviceB, "poller-delete@kt.com"));
+        assertThatThrownBy(() -> serviceB.getUser("poller-delete@kt.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void createOnOneNodeEvictsNegativeEntryOnOtherNode() {
+        UserService serviceA = nodeA.getBean(UserService.class);
+        UserService serviceB = nodeB.getBean(UserService.class);
+        
+        assertThat(isMissing(serviceB, "poller-create@kt.com")).isTrue(); // negative 캐시 적재
+        
+        serviceA.createUser(createRequest("poller-create@kt.com", "새로운닉네임"));
+        
+        awaitTrue(() -> !isMissing(serviceB, "poller-create@kt.com"));
+        assertThat(nodeB.getBean(NicknameIndex.class).isTaken("새로운닉네임")).isTrue();
+    }
+    
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(UserServiceApplication.class)
+                .properties("server.port=0")
+                .run();
+    }
+    
+    private static boolean isMissing(UserService userService, String userId) {
+        try {
+            userService.getUser(userId);
+            return false;
+        } catch (IllegalArgumentException e) {
+            return true;
+        }
+    }
+    
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("대기 중 인터럽트됨");
+            }
+        }
+        fail("조건이 " + TIMEOUT + " 안에 충족되지 않았습니다");
+    }
+}
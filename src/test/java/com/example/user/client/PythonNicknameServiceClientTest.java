@@ -0,0 +1,196 @@
+package com.example.user.client;
+
+import com.example.user.config.PythonNicknameServiceConfig;
+import com.example.user.dto.NicknameGenerateRequest;
+import com.example.user.dto.NicknameGenerateResponse;
+import com.example.user.exception.ServiceBusyException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 HTTP 서버를 상대로 서킷 브레이커, 헤징, deadline 동작 검증
+ */
+class PythonNicknameServiceClientTest {
+    
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile IntFunction<StubResponse> behavior = hit -> StubResponse.ok("행복한고양이", 0);
+    
+    private MeterRegistry meterRegistry;
+    private PythonNicknameServiceConfig config;
+    
+    @BeforeEach
+    void startServer() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/generate-nickname", this::handle);
+        server.setExecutor(serverExecutor);
+        server.start();
+        
+        meterRegistry = new SimpleMeterRegistry();
+        config = new PythonNicknameServiceConfig();
+        config.setUrl("http://localhost:" + server.getAddress().getPort());
+        config.setDeadlineMs(2000L);
+        config.setReadTimeoutMs(1500);
+        config.getCircuitBreaker().setWindowSize(4);
+        config.getCircuitBreaker().setMinimumCalls(4);
+        config.getCircuitBreaker().setOpenDurationMs(300);
+        config.getCircuitBreaker().setHalfOpenPermits(1);
+    }
+    
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+    
+    @Test
+    void decodesResponseDirectly() {
+        NicknameGenerateResponse response = newClient().generateNickname(request()).block();
+        
+        assertThat(response.getNickname()).isEqualTo("행복한고양이");
+        assertThat(response.isAvailable()).isTrue();
+    }
+    
+    @Test
+    void opensCircuitAfterFailuresAndRejectsWithoutCallingUpstream() {
+        behavior = hit -> StubResponse.error(500);
+        PythonNicknameServiceClient client = newClient();
+        
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.generateNickname(request()).block())
+                    .isNotInstanceOf(ServiceBusyException.class);
+        }
+        assertThat(client.getCircuitState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+        
+        int hitsWhenOpened = hits.get();
+        assertThatThrownBy(() -> client.generateNickname(request()).block())
+                .isInstanceOf(ServiceBusyException.class);
+        assertThat(hits.get()).isEqualTo(hitsWhenOpened);
+        assertThat(meterRegistry.counter("nickname.upstream.circuit.rejected").count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void halfOpenProbeClosesCircuitWhenUpstreamRecovers() throws InterruptedException {
+        behavior = hit -> StubResponse.error(503);
+        PythonNicknameServiceClient client = newClient();
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.generateNickname(request()).block());
+        }
+        assertThat(client.getCircuitState()).isEqualTo(UpstreamCircuitBreaker.State.OPEN);
+        
+        behavior = hit -> StubResponse.ok("회복한강아지", 0);
+        Thread.sleep(400);
+        
+        assertThat(client.generateNickname(request()).block().getNickname()).isEqualTo("회복한강아지");
+        assertThat(client.getCircuitState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+    
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        behavior = hit -> StubResponse.error(400);
+        PythonNicknameServiceClient client = newClient();
+        
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> client.generateNickname(request()).block());
+        }
+        assertThat(client.getCircuitState()).isEqualTo(UpstreamCircuitBreaker.State.CLOSED);
+    }
+    
+    @Test
+    void hedgedRequestReturnsFasterSecondResponse() {
+        config.getHedging().setEnabled(true);
+        config.getHedging().setInitialDelayMs(100);
+        behavior = hit -> hit == 1
+                ? StubResponse.ok("느린응답", 1500)
+                : StubResponse.ok("빠른응답", 0);
+        PythonNicknameServiceClient client = newClient();
+        
+        long started = System.nanoTime();
+        NicknameGenerateResponse response = client.generateNickname(request()).block();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        
+        assertThat(response.getNickname()).isEqualTo("빠른응답");
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(meterRegistry.counter("nickname.upstream.hedge", "result", "fired").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("nickname.upstream.hedge", "result", "won").count()).isEqualTo(1.0);
+    }
+    
+    @Test
+    void failsWithinDeadlineBudget() {
+        behavior = hit -> StubResponse.ok("너무늦은응답", 3000);
+        PythonNicknameServiceClient client = newClient();
+        
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> client.generateNickname(request(), Duration.ofMillis(300)).block())
+                .isInstanceOf(RuntimeException.class);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        
+        assertThat(elapsedMillis).isLessThan(1500);
+        assertThat(meterRegistry.counter("nickname.upstream.deadline.exceeded").count()).isEqualTo(1.0);
+    }
+    
+    private PythonNicknameServiceClient newClient() {
+        return new PythonNicknameServiceClient(WebClient.builder(), config, meterRegistry);
+    }
+    
+    private static NicknameGenerateRequest request() {
+        NicknameGenerateRequest request = new NicknameGenerateRequest();
+        request.setUsername("홍길동");
+        request.setInterests("게임, 음악");
+        return request;
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        StubResponse response = behavior.apply(hits.incrementAndGet());
+        try {
+            if (response.delayMillis() > 0) {
+                Thread.sleep(response.delayMillis());
+            }
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 먼저 연결을 끊은 경우 (헤징/deadline)
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private record StubResponse(int status, String body, long delayMillis) {
+        
+        static StubResponse ok(String nickname, long delayMillis) {
+            return new StubResponse(200, "{\"nickname\":\"" + nickname + "\",\"is_available\":true}", delayMillis);
+        }
+        
+        static StubResponse error(int status) {
+            return new StubResponse(status, "{\"detail\":\"error\"}", 0);
+        }
+    }
+}
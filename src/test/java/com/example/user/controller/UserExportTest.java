@@ -0,0 +1,79 @@
+package com.example.user.controller;
+
+import com.example.user.service.NicknameService;
+import com.example.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * NDJSON 스트리밍 내보내기 검증 (fetch size보다 많은 행, 전송 중 오류 시 연결 종료)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserExportTest {
+    
+    private static final int ROWS = 1_234; // 스트리밍 fetch size(500)의 두 배 이상
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void exportsMoreRowsThanFetchSize() throws Exception {
+        // BCrypt 없이 빠르게 채우기 위해 직접 INSERT
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{"export-bulk-" + i + "@kt.com", false, "내보내기", "내보내기" + i, "not-a-real-hash"});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (user_id, is_admin, username, nickname, password) VALUES (?, ?, ?, ?, ?)", rows);
+        
+        String body = mockMvc.perform(get("/users/export"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        
+        List<String> lines = body.lines().toList();
+        assertThat(lines.stream().filter(line -> line.contains("\"export-bulk-")).count()).isEqualTo(ROWS);
+        assertThat(lines).allMatch(line -> line.startsWith("{") && line.endsWith("}"));
+        assertThat(body).doesNotContain("password");
+    }
+    
+    @Test
+    void failureAfterCommitPropagatesSoConnectionIsAborted() throws IOException {
+        UserService userService = mock(UserService.class);
+        when(userService.exportUsers(any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"userId\":\"partial@kt.com\"}\n".getBytes(StandardCharsets.UTF_8));
+            out.flush(); // 응답 커밋
+            throw new IOException("DB 연결 끊김");
+        });
+        MockMvc standalone = MockMvcBuilders
+                .standaloneSetup(new UserController(userService, mock(NicknameService.class)))
+                .build();
+        
+        // 정상 완료로 끝내지 않고 예외가 컨테이너까지 전달되어야 함
+        assertThatThrownBy(() -> standalone.perform(get("/users/export")))
+                .hasStackTraceContaining("DB 연결 끊김");
+    }
+}
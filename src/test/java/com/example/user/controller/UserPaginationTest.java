@@ -0,0 +1,92 @@
+package com.example.user.controller;
+
+import com.example.user.dto.UserPageResponse;
+import com.example.user.dto.UserResponse;
+import com.example.user.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.example.user.UserFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * user_id keyset 커서 페이지네이션 검증 (전체 페이지 순회, 마지막 페이지, 잘못된 커서)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserPaginationTest {
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Test
+    void walksAllPagesWithoutGapsOrDuplicates() {
+        List<String> created = List.of("page-walk-1@kt.com", "page-walk-2@kt.com", "page-walk-3@kt.com",
+                "page-walk-4@kt.com", "page-walk-5@kt.com");
+        for (int i = 0; i < created.size(); i++) {
+            userService.createUser(createRequest(created.get(i), "페이지순회" + i));
+        }
+        
+        List<String> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            UserPageResponse page = userService.getUsers(cursor, 2);
+            assertThat(page.getUsers()).hasSizeLessThanOrEqualTo(2);
+            page.getUsers().stream().map(UserResponse::getUserId).forEach(walked::add);
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null && pages < 10_000);
+        
+        // 마지막 페이지는 nextCursor가 없고, 전체가 user_id 순으로 한 번씩만 나옴 (user_id는 PK라 동률 없음)
+        assertThat(cursor).isNull();
+        assertThat(walked).containsAll(created);
+        assertThat(new HashSet<>(walked)).hasSameSizeAs(walked);
+        for (int i = 1; i < walked.size(); i++) {
+            assertThat(walked.get(i - 1).compareToIgnoreCase(walked.get(i))).isNegative();
+        }
+    }
+    
+    @Test
+    void lastPageHasNoCursorEvenWhenItIsExactlyFull() {
+        // 다른 테스트 데이터보다 뒤에 오도록 "zzzz" 접두사 사용
+        userService.createUser(createRequest("zzzz-last1@kt.com", "마지막1"));
+        userService.createUser(createRequest("zzzz-last2@kt.com", "마지막2"));
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("zzzz-last".getBytes(StandardCharsets.UTF_8));
+        
+        UserPageResponse exact = userService.getUsers(cursor, 2);
+        assertThat(exact.getUsers()).extracting(UserResponse::getUserId)
+                .containsExactly("zzzz-last1@kt.com", "zzzz-last2@kt.com");
+        assertThat(exact.getNextCursor()).isNull();
+        assertThat(exact.isHasNext()).isFalse();
+        
+        UserPageResponse first = userService.getUsers(cursor, 1);
+        assertThat(first.getNextCursor()).isNotNull();
+        UserPageResponse last = userService.getUsers(first.getNextCursor(), 1);
+        assertThat(last.getUsers()).extracting(UserResponse::getUserId).containsExactly("zzzz-last2@kt.com");
+        assertThat(last.getNextCursor()).isNull();
+    }
+    
+    @Test
+    void malformedCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/users").param("cursor", "%%%not-base64%%%"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
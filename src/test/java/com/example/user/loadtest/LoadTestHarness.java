@@ -0,0 +1,339 @@
+package com.example.user.loadtest;
+
+import com.example.user.UserServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 전체 애플리케이션 부하 테스트 하네스
+ * 내장 H2와 스텁 닉네임 서버로 애플리케이션을 띄우고, UserController 엔드포인트를 섞은 요청을
+ * 목표 초당 요청 수로 보낸 뒤(open loop) 엔드포인트별 p50/p95/p99 지연시간과 오류 수를 출력한다.
+ * 지연시간은 예정된 전송 시각부터 측정하므로 서버가 밀려도 대기 시간이 결과에 반영된다.
+ *
+ * ./gradlew loadTest -Dloadtest.rate=300 -Dloadtest.duration-seconds=60 \
+ *     -Dloadtest.mix=register=10,login=20,get=40,list=15,delete=5,nickname=10 \
+ *     -Dloadtest.stub.latency-ms=200 -Dloadtest.stub.error-rate=0.05
+ */
+@Tag("loadtest")
+class LoadTestHarness {
+    
+    private static final int RATE = Integer.getInteger("loadtest.rate", 200);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("loadtest.max-in-flight", 2000);
+    private static final int SEED_USERS = Integer.getInteger("loadtest.seed-users", 200);
+    private static final String MIX = System.getProperty("loadtest.mix",
+            "register=10,login=20,get=35,list=15,delete=5,nickname=15");
+    private static final int BCRYPT_STRENGTH = Integer.getInteger("loadtest.bcrypt-strength", 10);
+    private static final String LOCAL_GENERATOR_MODE = System.getProperty("loadtest.local-generator-mode", "off");
+    private static final long STUB_LATENCY_MS = Long.getLong("loadtest.stub.latency-ms", 100);
+    private static final long STUB_JITTER_MS = Long.getLong("loadtest.stub.jitter-ms", 50);
+    private static final double STUB_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.stub.error-rate", "0.01"));
+    
+    private static final String PASSWORD = "password123";
+    private static final String[] INTERESTS = {"게임, 음악", "여행", "요리, 독서", "스포츠", "코딩, 영화", ""};
+    
+    private enum Endpoint { REGISTER, LOGIN, GET, LIST, DELETE, NICKNAME }
+    
+    private final AtomicLong userSequence = new AtomicLong();
+    private final List<String> seededUserIds = new ArrayList<>();
+    private final ConcurrentLinkedDeque<String> deletableUserIds = new ConcurrentLinkedDeque<>();
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+    
+    private HttpClient client;
+    private String baseUrl;
+    
+    @Test
+    void runMixedWorkload() throws Exception {
+        Workload workload = Workload.parse(MIX);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+        
+        try (StubNicknameServer stub = new StubNicknameServer(STUB_LATENCY_MS, STUB_JITTER_MS, STUB_ERROR_RATE);
+             ConfigurableApplicationContext context = new SpringApplicationBuilder(UserServiceApplication.class)
+                     .properties(
+                             "server.port=0",
+                             "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                             "python.nickname-service.url=" + stub.url(),
+                             "nickname.local-generator.mode=" + LOCAL_GENERATOR_MODE,
+                             "password.hash.strength=" + BCRYPT_STRENGTH,
+                             "login.rate-limit.enabled=false", // 모든 요청이 같은 IP에서 오므로 시도 제한 해제
+                             "logging.level.com.example.user=WARN")
+                     .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            baseUrl = "http://localhost:" + port + "/users";
+            client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            
+            seedUsers();
+            long elapsedNanos = drive(workload);
+            report(workload, elapsedNanos);
+        }
+    }
+    
+    /**
+     * 로그인/조회 대상 사용자를 미리 등록 (해시 풀 큐를 넘기지 않도록 동시성 제한)
+     */
+    private void seedUsers() throws Exception {
+        try (ExecutorService seeders = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors())) {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < SEED_USERS; i++) {
+                futures.add(seeders.submit(() -> {
+                    String userId = nextUserId();
+                    int status = send(registerRequest(userId));
+                    return status == 201 ? userId : null;
+                }));
+            }
+            for (Future<String> future : futures) {
+                String userId = future.get();
+                if (userId != null) {
+                    seededUserIds.add(userId);
+                }
+            }
+        }
+        if (seededUserIds.isEmpty()) {
+            throw new IllegalStateException("부하 테스트용 사용자를 등록하지 못했습니다");
+        }
+    }
+    
+    /**
+     * 목표 초당 요청 수로 요청을 예약해 보냄 (응답을 기다리지 않는 open loop)
+     * 동시에 처리 중인 요청이 max-in-flight를 넘으면 보내지 않고 dropped로 기록
+     */
+    private long drive(Workload workload) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        long totalRequests = (long) RATE * (WARMUP_SECONDS + DURATION_SECONDS);
+        long warmupRequests = (long) RATE * WARMUP_SECONDS;
+        Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        
+        long started = System.nanoTime();
+        long measuredFrom = started + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < totalRequests; i++) {
+                long scheduledAt = started + i * intervalNanos;
+                long wait = scheduledAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                
+                Endpoint endpoint = workload.next();
+                boolean measured = i >= warmupRequests;
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        stats.get(endpoint).dropped.increment();
+                    }
+                    continue;
+                }
+                senders.submit(() -> {
+                    try {
+                        execute(endpoint, scheduledAt, measured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return System.nanoTime() - measuredFrom;
+    }
+    
+    private void execute(Endpoint endpoint, long scheduledAt, boolean measured) {
+        String registeredUserId = null;
+        HttpRequest request;
+        switch (endpoint) {
+            case REGISTER -> {
+                registeredUserId = nextUserId();
+                request = registerRequest(registeredUserId);
+            }
+            case LOGIN -> request = post(baseUrl + "/login",
+                    "{\"userId\":\"" + randomSeededUser() + "\",\"password\":\"" + PASSWORD + "\"}");
+            case GET -> request = HttpRequest.newBuilder(URI.create(baseUrl + "/" + encode(randomSeededUser()))).GET().build();
+            case LIST -> request = HttpRequest.newBuilder(URI.create(baseUrl + "?size=20")).GET().build();
+            case DELETE -> {
+                String userId = deletableUserIds.pollFirst();
+                if (userId == null) {
+                    return; // 아직 삭제할 사용자가 없으면 건너뜀
+                }
+                request = HttpRequest.newBuilder(URI.create(baseUrl + "/" + encode(userId))).DELETE().build();
+            }
+            case NICKNAME -> request = post(baseUrl + "/nickname/generate",
+                    "{\"username\":\"부하" + userSequence.incrementAndGet() + "\",\"interests\":\""
+                            + INTERESTS[ThreadLocalRandom.current().nextInt(INTERESTS.length)] + "\"}");
+            default -> throw new IllegalStateException("Unexpected endpoint: " + endpoint);
+        }
+        
+        int status = send(request);
+        long latency = System.nanoTime() - scheduledAt;
+        if (registeredUserId != null && status == 201) {
+            deletableUserIds.offerLast(registeredUserId);
+        }
+        if (measured) {
+            stats.get(endpoint).record(status, latency);
+        }
+    }
+    
+    private void report(Workload workload, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long completed = stats.values().stream().mapToLong(s -> s.latencies.size()).sum();
+        
+        System.out.printf("%n목표 %d req/s, 측정 %ds (워밍업 %ds), mix: %s%n", RATE, DURATION_SECONDS, WARMUP_SECONDS, workload);
+        System.out.printf("스텁 지연 %dms + jitter %dms, 오류율 %.1f%%, BCrypt strength %d, 로컬 생성기 %s%n",
+                STUB_LATENCY_MS, STUB_JITTER_MS, STUB_ERROR_RATE * 100, BCRYPT_STRENGTH, LOCAL_GENERATOR_MODE);
+        System.out.printf("처리량 %.1f req/s (완료 %d건)%n%n", completed / seconds, completed);
+        System.out.printf("%-10s %8s %8s %8s %8s %8s %10s %10s %10s %10s%n",
+                "endpoint", "count", "errors", "shed", "dropped", "non-2xx", "p50", "p95", "p99", "max");
+        stats.forEach((endpoint, s) -> s.print(endpoint.name().toLowerCase()));
+    }
+    
+    private HttpRequest registerRequest(String userId) {
+        long n = userSequence.incrementAndGet();
+        return post(baseUrl, "{\"userId\":\"" + userId + "\",\"username\":\"부하" + n
+                + "\",\"nickname\":\"부하닉네임" + n + "\",\"password\":\"" + PASSWORD + "\"}");
+    }
+    
+    private String nextUserId() {
+        return "load" + userSequence.incrementAndGet() + "@kt.com";
+    }
+    
+    private String randomSeededUser() {
+        return seededUserIds.get(ThreadLocalRandom.current().nextInt(seededUserIds.size()));
+    }
+    
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+    
+    private static HttpRequest post(String url, String json) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+    
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+    
+    /**
+     * 가중치에 따라 엔드포인트를 고르는 요청 구성 ("register=10,login=20,...")
+     */
+    private record Workload(Endpoint[] endpoints, int[] cumulativeWeights) {
+        
+        static Workload parse(String mix) {
+            List<Endpoint> endpoints = new ArrayList<>();
+            List<Integer> cumulative = new ArrayList<>();
+            int total = 0;
+            for (String entry : mix.split(",")) {
+                String[] pair = entry.trim().split("=");
+                int weight = Integer.parseInt(pair[1].trim());
+                if (weight <= 0) {
+                    continue;
+                }
+                total += weight;
+                endpoints.add(Endpoint.valueOf(pair[0].trim().toUpperCase()));
+                cumulative.add(total);
+            }
+            if (endpoints.isEmpty()) {
+                throw new IllegalArgumentException("loadtest.mix에 가중치가 있는 엔드포인트가 없습니다: " + mix);
+            }
+            return new Workload(endpoints.toArray(Endpoint[]::new),
+                    cumulative.stream().mapToInt(Integer::intValue).toArray());
+        }
+        
+        Endpoint next() {
+            int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (pick < cumulativeWeights[i]) {
+                    return endpoints[i];
+                }
+            }
+            return endpoints[endpoints.length - 1];
+        }
+        
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < endpoints.length; i++) {
+                int weight = cumulativeWeights[i] - (i == 0 ? 0 : cumulativeWeights[i - 1]);
+                sb.append(i == 0 ? "" : ",").append(endpoints[i].name().toLowerCase()).append('=').append(weight);
+            }
+            return sb.toString();
+        }
+    }
+    
+    /**
+     * 엔드포인트별 결과
+     * - errors: 전송 실패 또는 5xx (503 제외)
+     * - shed: 서버가 과부하로 거절한 요청 (429/503)
+     * - dropped: 클라이언트 동시 요청 한도로 보내지 못한 요청
+     * - non-2xx: 4xx 응답 (중복 등록, 이미 삭제된 사용자 등)
+     */
+    private static class Stats {
+        
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder shed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        
+        void record(int status, long latencyNanos) {
+            latencies.add(latencyNanos);
+            if (status == 429 || status == 503) {
+                shed.increment();
+            } else if (status < 0 || status >= 500) {
+                errors.increment();
+            } else if (status >= 400) {
+                clientErrors.increment();
+            }
+        }
+        
+        void print(String endpoint) {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            System.out.printf("%-10s %8d %8d %8d %8d %8d %8.1fms %8.1fms %8.1fms %8.1fms%n", endpoint, sorted.size(),
+                    errors.sum(), shed.sum(), dropped.sum(), clientErrors.sum(),
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), percentile(sorted, 100));
+        }
+        
+        private static double percentile(List<Long> sorted, int p) {
+            if (sorted.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index)) / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.user.security;
+
+import com.example.user.exception.LoginThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 계정/IP별 로그인 시도 제한 검증
+ */
+class LoginRateLimiterTest {
+    
+    @Test
+    void throttlesAccountAfterCapacity() {
+        LoginRateLimiter limiter = limiter(3, 100);
+        
+        for (int i = 0; i < 3; i++) {
+            assertThatCode(() -> limiter.acquire("user01", "10.0.0.1")).doesNotThrowAnyException();
+        }
+        
+        // 대소문자만 다른 ID도 같은 계정으로 취급
+        assertThatThrownBy(() -> limiter.acquire("USER01", "10.0.0.2"))
+                .isInstanceOfSatisfying(LoginThrottledException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isBetween(1L, 60L));
+        assertThatCode(() -> limiter.acquire("user02", "10.0.0.1")).doesNotThrowAnyException();
+    }
+    
+    @Test
+    void throttlesIpAcrossAccounts() {
+        LoginRateLimiter limiter = limiter(100, 2);
+        
+        limiter.acquire("user01", "10.0.0.1");
+        limiter.acquire("user02", "10.0.0.1");
+        
+        assertThatThrownBy(() -> limiter.acquire("user03", "10.0.0.1"))
+                .isInstanceOf(LoginThrottledException.class);
+        assertThatCode(() -> limiter.acquire("user03", "10.0.0.9")).doesNotThrowAnyException();
+    }
+    
+    private static LoginRateLimiter limiter(int userCapacity, int ipCapacity) {
+        return new LoginRateLimiter(true, userCapacity, Duration.ofMinutes(1), ipCapacity, Duration.ofMinutes(1),
+                Duration.ofMinutes(15), 1000, new SimpleMeterRegistry());
+    }
+}
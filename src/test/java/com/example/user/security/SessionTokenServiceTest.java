@@ -0,0 +1,78 @@
+package com.example.user.security;
+
+import com.example.user.dto.UserResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 세션 토큰 서명/만료/폐기 검증
+ */
+class SessionTokenServiceTest {
+    
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    
+    @Test
+    void issuedTokenVerifies() {
+        SessionTokenService service = service(SECRET, Duration.ofHours(1));
+        
+        String token = service.issue(user("user:01", true)).value();
+        
+        assertThat(service.verify(token)).hasValueSatisfying(verified -> {
+            assertThat(verified.userId()).isEqualTo("user:01");
+            assertThat(verified.admin()).isTrue();
+        });
+    }
+    
+    @Test
+    void rejectsTamperedOrForeignTokens() {
+        SessionTokenService service = service(SECRET, Duration.ofHours(1));
+        String token = service.issue(user("user01", false)).value();
+        String otherKeyToken = service("fedcba9876543210fedcba9876543210", Duration.ofHours(1))
+                .issue(user("user01", false)).value();
+        
+        assertThat(service.verify(token.substring(1))).isEmpty();
+        assertThat(service.verify(otherKeyToken)).isEmpty();
+        assertThat(service.verify("not-a-token")).isEmpty();
+    }
+    
+    @Test
+    void rejectsExpiredToken() {
+        SessionTokenService service = service(SECRET, Duration.ofMillis(-1));
+        
+        assertThat(service.verify(service.issue(user("user01", false)).value())).isEmpty();
+    }
+    
+    @Test
+    void revokedTokensAreRejected() {
+        SessionTokenService service = service(SECRET, Duration.ofHours(1));
+        SessionTokenService.IssuedToken loggedOut = service.issue(user("user01", false));
+        SessionTokenService.IssuedToken other = service.issue(user("user01", false));
+        
+        service.revoke(loggedOut.token());
+        
+        assertThat(service.verify(loggedOut.value())).isEmpty();
+        assertThat(service.verify(other.value())).isPresent();
+        
+        service.revokeAllFor("user01");
+        assertThat(service.verify(other.value())).isEmpty();
+    }
+    
+    @Test
+    void rejectsShortSecret() {
+        assertThatThrownBy(() -> service("short", Duration.ofHours(1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+    
+    private static SessionTokenService service(String secret, Duration ttl) {
+        return new SessionTokenService(secret, ttl, 1000, new SimpleMeterRegistry());
+    }
+    
+    private static UserResponse user(String userId, boolean admin) {
+        return UserResponse.builder().userId(userId).isAdmin(admin).username("테스트").nickname("닉네임").build();
+    }
+}
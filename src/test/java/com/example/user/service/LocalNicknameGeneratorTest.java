@@ -0,0 +1,81 @@
+package com.example.user.service;
+
+import com.example.user.cache.NicknameIndex;
+import com.example.user.util.NicknameUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 조합형 닉네임 생성기 검증 (사용 여부 확인은 NicknameIndex 목으로 대체)
+ */
+class LocalNicknameGeneratorTest {
+    
+    @Test
+    void generatesValidAvailableNickname() {
+        NicknameIndex index = mock(NicknameIndex.class);
+        when(index.findTaken(anyCollection())).thenReturn(Set.of());
+        
+        Optional<String> nickname = generator(index, 42L).generate("게임, 음악");
+        
+        assertThat(nickname).isPresent();
+        assertThat(NicknameUtil.isValid(nickname.get())).isTrue();
+    }
+    
+    @Test
+    void sameSeedProducesSameSequence() {
+        NicknameIndex index = mock(NicknameIndex.class);
+        when(index.findTaken(anyCollection())).thenReturn(Set.of());
+        
+        LocalNicknameGenerator first = generator(index, 7L);
+        LocalNicknameGenerator second = generator(index, 7L);
+        
+        for (int i = 0; i < 5; i++) {
+            assertThat(first.generate("여행")).isEqualTo(second.generate("여행"));
+        }
+    }
+    
+    @Test
+    void addsNumericSuffixWhenPlainCombinationsAreTaken() {
+        NicknameIndex index = mock(NicknameIndex.class);
+        // 숫자 없는 조합은 모두 사용 중인 것으로 응답
+        when(index.findTaken(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> candidates = invocation.getArgument(0);
+            return candidates.stream()
+                    .filter(candidate -> !Character.isDigit(candidate.charAt(candidate.length() - 1)))
+                    .collect(Collectors.toCollection(HashSet::new));
+        });
+        
+        Optional<String> nickname = generator(index, 1L).generate(null);
+        
+        assertThat(nickname).isPresent();
+        assertThat(nickname.get()).matches(".*\\d$");
+    }
+    
+    @Test
+    void returnsEmptyWhenEverythingIsTaken() {
+        NicknameIndex index = mock(NicknameIndex.class);
+        when(index.findTaken(anyCollection())).thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+        
+        assertThat(generator(index, 1L).generate("코딩")).isEmpty();
+    }
+    
+    private static LocalNicknameGenerator generator(NicknameIndex index, long seed) {
+        LocalNicknameGenerator generator = new LocalNicknameGenerator(index, seed, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(generator, "batchSize", 8);
+        ReflectionTestUtils.setField(generator, "maxRounds", 4);
+        ReflectionTestUtils.setField(generator, "interestWeight", 0.7);
+        return generator;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.user.service;
+
+import com.example.user.dto.UserBatchCreateResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static com.example.user.UserFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일괄 등록의 항목별 중복 판정 검증 (대소문자만 다른 ID/닉네임 포함)
+ */
+@SpringBootTest
+class UserServiceBatchCreateTest {
+    
+    @Autowired
+    private UserService userService;
+    
+    @Test
+    void caseOnlyDuplicatesOfExistingUsersFailPerItem() {
+        userService.createUser(createRequest("batch-case@kt.com", "BatchNick"));
+        
+        UserBatchCreateResponse response = userService.createUsers(List.of(
+                createRequest("Batch-Case@kt.com", "다른닉네임1"),
+                createRequest("batch-case-other@kt.com", "batchnick"),
+                createRequest("batch-case-new@kt.com", "새닉네임1")));
+        
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getResults().get(0).getMessage()).contains("이미 존재하는 사용자 ID");
+        assertThat(response.getResults().get(1).getMessage()).contains("이미 존재하는 닉네임");
+        assertThat(response.getResults().get(2).isSuccess()).isTrue();
+    }
+    
+    @Test
+    void caseOnlyDuplicatesWithinBatchFailPerItem() {
+        UserBatchCreateResponse response = userService.createUsers(List.of(
+                createRequest("batch-inner@kt.com", "InnerNick"),
+                createRequest("BATCH-INNER@kt.com", "내부닉네임2"),
+                createRequest("batch-inner2@kt.com", "innernick")));
+        
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getResults().get(0).isSuccess()).isTrue();
+        assertThat(response.getResults().get(1).getMessage()).contains("이미 존재하는 사용자 ID");
+        assertThat(response.getResults().get(2).getMessage()).contains("이미 존재하는 닉네임");
+        assertThat(userService.getUser("batch-inner@kt.com").getNickname()).isEqualTo("InnerNick");
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.user.service;
+
+import com.example.user.dto.UserBulkDeleteResponse;
+import com.example.user.dto.UserLoginRequest;
+import com.example.user.security.SessionTokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static com.example.user.UserFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 엔티티 조회 없는 DELETE 경로 검증 (단건 404 판정, 일괄 삭제 결과)
+ */
+@SpringBootTest
+class UserServiceDeletionTest {
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private SessionTokenService sessionTokenService;
+    
+    @Test
+    void deleteUserRemovesUserAndReportsMissingAsNotFound() {
+        userService.createUser(createRequest("delete-single@kt.com", "단건삭제"));
+        
+        userService.deleteUser("delete-single@kt.com");
+        
+        assertThatThrownBy(() -> userService.getUser("delete-single@kt.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> userService.deleteUser("delete-single@kt.com"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("사용자를 찾을 수 없습니다");
+    }
+    
+    @Test
+    void deleteUsersRemovesExistingAndListsMissing() {
+        userService.createUser(createRequest("delete-bulk1@kt.com", "일괄삭제1"));
+        userService.createUser(createRequest("delete-bulk2@kt.com", "일괄삭제2"));
+        
+        UserBulkDeleteResponse response = userService.deleteUsers(
+                List.of("delete-bulk1@kt.com", "delete-bulk2@kt.com", "delete-missing@kt.com"));
+        
+        assertThat(response.getRequested()).isEqualTo(3);
+        assertThat(response.getDeleted()).isEqualTo(2);
+        assertThat(response.getNotFound()).containsExactly("delete-missing@kt.com");
+        assertThatThrownBy(() -> userService.getUser("delete-bulk1@kt.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    void deletedUserCannotLogInWithDifferentCasing() {
+        userService.createUser(createRequest("delete-case@kt.com", "대소문자삭제"));
+        String token = userService.login(loginRequest("DELETE-CASE@kt.com"), "127.0.0.1").getAccessToken();
+        
+        userService.deleteUser("delete-case@kt.com");
+        
+        // 다른 표기로 채워진 캐시 항목도 함께 무효화되어야 함
+        assertThatThrownBy(() -> userService.login(loginRequest("DELETE-CASE@kt.com"), "127.0.0.1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("사용자를 찾을 수 없습니다");
+        assertThatThrownBy(() -> userService.getUser("Delete-Case@kt.com"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(sessionTokenService.verify(token)).isEmpty();
+    }
+    
+    private static UserLoginRequest loginRequest(String userId) {
+        return new UserLoginRequest(userId, "password123");
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.user.service;
+
+import com.example.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static com.example.user.UserFixtures.createRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사전 조회 없이 DB 제약으로 중복을 확인하는 등록 경로 검증
+ */
+@SpringBootTest
+class UserServiceRegistrationTest {
+    
+    @Autowired
+    private UserService userService;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Test
+    void registersNewUser() {
+        assertThat(userService.createUser(createRequest("register-new@kt.com", "처음닉네임")).getNickname())
+                .isEqualTo("처음닉네임");
+        assertThat(userService.getUser("register-new@kt.com").getNickname()).isEqualTo("처음닉네임");
+    }
+    
+    @Test
+    void registrationIssuesSingleInsertWithoutPreSelect() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        userService.createUser(createRequest("register-count@kt.com", "쿼리수확인"));
+        
+        // users 테이블 기준으로 집계 (변경 로그 INSERT, 백그라운드 폴러 조회는 다른 엔티티라 제외됨)
+        // merge였다면 INSERT 전에 같은 ID를 조회하므로 load/fetch가 남음
+        EntityStatistics userStatistics = statistics.getEntityStatistics(User.class.getName());
+        assertThat(userStatistics.getInsertCount()).isEqualTo(1);
+        assertThat(userStatistics.getLoadCount()).isZero();
+        assertThat(userStatistics.getFetchCount()).isZero();
+    }
+    
+    @Test
+    void duplicateUserIdIsReportedAsDuplicateId() {
+        userService.createUser(createRequest("register-dup-id@kt.com", "아이디중복1"));
+        
+        assertThatThrownBy(() -> userService.createUser(createRequest("register-dup-id@kt.com", "아이디중복2")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 존재하는 사용자 ID");
+    }
+    
+    @Test
+    void duplicateNicknameIsReportedAsDuplicateNickname() {
+        userService.createUser(createRequest("register-dup-nick1@kt.com", "닉네임중복"));
+        
+        assertThatThrownBy(() -> userService.createUser(createRequest("register-dup-nick2@kt.com", "닉네임중복")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("이미 존재하는 닉네임");
+    }
+}